@@ -0,0 +1,154 @@
+package fi.seco.spatial.arq.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Random;
+
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.ReadWrite;
+import org.apache.jena.query.spatial.EntityDefinition;
+import org.apache.jena.query.spatial.SpatialDatasetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.tdb.TDBFactory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.RAMDirectory;
+
+import examples.SpatialFunctionsExample;
+
+/**
+ * Generates synthetic spatial datasets of WGS84 points and the polygons queried in the benchmarks.
+ *
+ * The points are spread over southern and central Finland, so that the Helsinki and Oulu
+ * polygons of SpatialFunctionsExample select a part of them, either uniformly or in
+ * clusters around random centres (half of them around Helsinki and Oulu).
+ */
+public class SyntheticData {
+	public static final String POINT_NS = "http://example.org/point/";
+
+	static final double MIN_LAT = 59.8;
+	static final double MAX_LAT = 65.2;
+	static final double MIN_LONG = 24.5;
+	static final double MAX_LONG = 26.0;
+
+	private static final double[][] CITY_CENTRES = { { 60.17, 25.00 }, { 65.01, 25.47 } };
+	private static final int CLUSTERS = 50;
+	private static final double CLUSTER_SIGMA = 0.05;
+
+	public enum Distribution { uniform, clustered }
+
+	public enum Store { mem, tdb }
+
+	/**
+	 * Creates a spatial dataset with the given number of points, and one extra point at
+	 * (probeLat, probeLong) with the URI probeURI(). For a TDB dataset the TDB files and the
+	 * Lucene index are written under dir.
+	 */
+	public static Dataset create(int size, Distribution distribution, Store store, File dir,
+			double probeLat, double probeLong) throws IOException {
+		EntityDefinition entDef = new EntityDefinition("entityField", "geoField");
+		Dataset baseDataset;
+		Directory luceneDir;
+		if (store == Store.tdb) {
+			baseDataset = TDBFactory.createDataset(new File(dir, "tdb").getPath());
+			luceneDir = FSDirectory.open(new File(dir, "lucene"));
+		} else {
+			baseDataset = DatasetFactory.createMem();
+			luceneDir = new RAMDirectory();
+		}
+		Dataset dataset = SpatialDatasetFactory.createLucene(baseDataset, luceneDir, entDef);
+
+		Random random = new Random(42);
+		double[][] centres = clusterCentres(random);
+		// load in chunks to keep the transactions of TDB small
+		int chunk = 100000;
+		for (int from = 0; from < size; from += chunk) {
+			dataset.begin(ReadWrite.WRITE);
+			try {
+				Model model = dataset.getDefaultModel();
+				Property lat = model.createProperty(EntityDefinition.geo_latitude.getURI());
+				Property lon = model.createProperty(EntityDefinition.geo_longitude.getURI());
+				for (int i = from; i < Math.min(size, from + chunk); i++) {
+					double latD, longD;
+					if (distribution == Distribution.clustered) {
+						double[] centre = centres[random.nextInt(centres.length)];
+						latD = clamp(centre[0] + random.nextGaussian() * CLUSTER_SIGMA, MIN_LAT, MAX_LAT);
+						longD = clamp(centre[1] + random.nextGaussian() * CLUSTER_SIGMA, MIN_LONG, MAX_LONG);
+					} else {
+						latD = MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT);
+						longD = MIN_LONG + random.nextDouble() * (MAX_LONG - MIN_LONG);
+					}
+					addPoint(model, lat, lon, POINT_NS + i, latD, longD);
+				}
+				if (from == 0)
+					addPoint(model, lat, lon, probeURI(), probeLat, probeLong);
+				dataset.commit();
+			} finally {
+				dataset.end();
+			}
+		}
+		return dataset;
+	}
+
+	public static String probeURI() {
+		return POINT_NS + "probe";
+	}
+
+	private static void addPoint(Model model, Property lat, Property lon, String uri, double latD, double longD) {
+		Resource r = model.createResource(uri);
+		r.addProperty(lat, Double.toString(latD));
+		r.addProperty(lon, Double.toString(longD));
+	}
+
+	private static double[][] clusterCentres(Random random) {
+		double[][] centres = new double[CLUSTERS][];
+		for (int i = 0; i < CLUSTERS; i++) {
+			if (i < CLUSTERS / 2)
+				centres[i] = CITY_CENTRES[i % CITY_CENTRES.length];
+			else
+				centres[i] = new double[] {
+						MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT),
+						MIN_LONG + random.nextDouble() * (MAX_LONG - MIN_LONG) };
+		}
+		return centres;
+	}
+
+	private static double clamp(double value, double min, double max) {
+		return Math.max(min, Math.min(max, value));
+	}
+
+	/**
+	 * Returns the object of seco-spatial:withinPolygon for the named polygon:
+	 * simple (a triangle), helsinki, oulu (concave municipality polygons) or highVertex
+	 * (a star-shaped polygon around Helsinki with the given number of vertices).
+	 */
+	public static String polygonArgument(String name, int vertices) {
+		if ("simple".equals(name))
+			return "'24.9422920760 59.9224888308, 25.1585533582 59.9424526638, 25.1687391225 60.0270350324, 24.9422920760 59.9224888308'";
+		if ("helsinki".equals(name))
+			return "('" + SpatialFunctionsExample.POLYGON_HELSINKI + "' ' ' ',')";
+		if ("oulu".equals(name))
+			return "('" + SpatialFunctionsExample.POLYGON_OULU + "' ' ' ',')";
+		if ("highVertex".equals(name))
+			return "'" + starPolygon(60.17, 25.00, 0.05, 0.15, vertices) + "'";
+		throw new IllegalArgumentException("Unknown polygon: " + name);
+	}
+
+	// star-shaped polygon in the default format 'long lat, long lat, ...'
+	private static String starPolygon(double latD, double longD, double minRadius, double maxRadius, int vertices) {
+		Random random = new Random(7);
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < vertices; i++) {
+			double angle = 2 * Math.PI * i / vertices;
+			double r = minRadius + random.nextDouble() * (maxRadius - minRadius);
+			if (i > 0)
+				sb.append(", ");
+			sb.append(String.format(Locale.ROOT, "%.10f %.10f", longD + 2 * r * Math.cos(angle), latD + r * Math.sin(angle)));
+		}
+		return sb.toString();
+	}
+}
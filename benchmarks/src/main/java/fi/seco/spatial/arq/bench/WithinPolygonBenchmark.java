@@ -0,0 +1,145 @@
+package fi.seco.spatial.arq.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QueryExecutionFactory;
+import org.apache.jena.query.QueryFactory;
+import org.apache.jena.query.ReadWrite;
+import org.apache.jena.query.ResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import fi.seco.spatial.arq.SpatialFunctions;
+
+/**
+ * Throughput and latency of seco-spatial:withinPolygon over synthetic datasets,
+ * for a variable subject (all points inside the polygon) and a bound subject.
+ *
+ * Run all the benchmarks with the GC profiler (allocation rate) with:
+ *
+ *  java -jar benchmarks/target/benchmarks.jar -prof gc
+ *
+ * or a subset, e.g. 10M clustered points in TDB:
+ *
+ *  java -jar benchmarks/target/benchmarks.jar WithinPolygonBenchmark -p size=10000000 -p distribution=clustered -p store=tdb -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class WithinPolygonBenchmark {
+	private static final String PREFIX = "PREFIX seco-spatial: <http://www.seco.tkk.fi/spatial#> ";
+
+	@Param({ "10000", "100000", "1000000" })
+	public int size;
+
+	@Param({ "uniform", "clustered" })
+	public SyntheticData.Distribution distribution;
+
+	@Param({ "mem", "tdb" })
+	public SyntheticData.Store store;
+
+	@Param({ "simple", "helsinki", "oulu", "highVertex" })
+	public String polygon;
+
+	@Param({ "10000" })
+	public int vertices;
+
+	private File dir;
+	private Dataset dataset;
+	private Query variableSubjectQuery;
+	private Query boundSubjectQuery;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		SpatialFunctions.init();
+		dir = Files.createTempDirectory("spatial-arq-bench").toFile();
+		// a point inside the polygon for the bound subject query
+		double[] probe = "oulu".equals(polygon) ? new double[] { 65.01, 25.47 }
+				: "simple".equals(polygon) ? new double[] { 59.964, 25.09 }
+				: new double[] { 60.1659, 24.9890 };
+		dataset = SyntheticData.create(size, distribution, store, dir, probe[0], probe[1]);
+
+		String argument = SyntheticData.polygonArgument(polygon, vertices);
+		variableSubjectQuery = QueryFactory.create(PREFIX
+				+ "SELECT ?s WHERE { ?s seco-spatial:withinPolygon " + argument + " }");
+		boundSubjectQuery = QueryFactory.create(PREFIX
+				+ "SELECT * WHERE { <" + SyntheticData.probeURI() + "> seco-spatial:withinPolygon " + argument + " }");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		dataset.close();
+		delete(dir);
+	}
+
+	@Benchmark
+	public long variableSubject() {
+		return count(variableSubjectQuery);
+	}
+
+	@Benchmark
+	public long boundSubject() {
+		return count(boundSubjectQuery);
+	}
+
+	private long count(Query query) {
+		dataset.begin(ReadWrite.READ);
+		try {
+			QueryExecution qexec = QueryExecutionFactory.create(query, dataset);
+			try {
+				ResultSet rs = qexec.execSelect();
+				long n = 0;
+				while (rs.hasNext()) {
+					rs.next();
+					n++;
+				}
+				return n;
+			} finally {
+				qexec.close();
+			}
+		} finally {
+			dataset.end();
+		}
+	}
+
+	private static void delete(File f) {
+		File[] children = f.listFiles();
+		if (children != null)
+			for (File child : children)
+				delete(child);
+		f.delete();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(WithinPolygonBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(opt).run();
+	}
+}
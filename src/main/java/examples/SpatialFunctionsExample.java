@@ -20,12 +20,14 @@ import org.apache.jena.vocabulary.RDFS;
 import fi.seco.spatial.arq.SpatialFunctions;
 
 public class SpatialFunctionsExample {
+	// municipality polygons of Helsinki and Oulu (also used by the benchmarks)
+	public static final String POLYGON_HELSINKI = "24.9422920760,59.9224888308 25.1585533582,59.9424526638 25.1585533582,59.9424526638 25.1687391225,60.0270350324 25.1704638875,60.0393556281 25.1704638875,60.0393556281 25.1715002954,60.0467548594 25.1767764761,60.0934950727 25.1942070194,60.1466566168 25.1964624133,60.1512683464 25.1964624133,60.1512683464 25.2203941304,60.1997364442 25.2167257358,60.2034350989 25.2149155516,60.2050693011 25.2014130538,60.2182042922 25.2017170865,60.2193387301 25.2017170865,60.2193387301 25.2036771660,60.2265545420 25.2043691889,60.2298960523 25.2043691889,60.2298960523 25.2266136056,60.2393674626 25.2266136056,60.2393674626 25.2230844540,60.2428390525 25.2230844540,60.2428390525 25.2248023093,60.2438323618 25.2258758872,60.2444530911 25.2270505786,60.2451322314 25.2270505786,60.2451322314 25.2370689042,60.2459915672 25.2370689042,60.2459915672 25.2408964086,60.2463196816 25.2408445038,60.2472691873 25.2407372084,60.2492315243 25.2407372084,60.2492315243 25.2408060752,60.2505507841 25.2392714038,60.2531540489 25.2385721914,60.2543399819 25.2385721914,60.2543399819 25.2374343525,60.2562696823 25.2374343525,60.2562696823 25.2335129913,60.2565511301 25.2335129913,60.2565511301 25.2303481708,60.2590112195 25.2303481708,60.2590112195 25.2292679359,60.2598497778 25.2290810056,60.2599978961 25.2288393445,60.2599238502 25.2273236640,60.2611039310 25.2276118305,60.2612320934 25.2281923219,60.2613822970 25.2281923219,60.2613822970 25.2285563829,60.2613923932 25.2297671338,60.2614124054 25.2299236462,60.2614140257 25.2302169257,60.2614316122 25.2305936869,60.2614190839 25.2306380418,60.2616912565 25.2306380418,60.2616912565 25.2306821714,60.2621561680 25.2315590518,60.2625153501 25.2325426626,60.2625496950 25.2318691713,60.2653053431 25.2318691713,60.2653053431 25.2320600568,60.2656952243 25.2320600568,60.2656952243 25.2318605556,60.2672331788 25.2344555877,60.2713977799 25.2344555877,60.2713977799 25.2348289816,60.2719615648 25.2348289816,60.2719615648 25.2375912320,60.2719212817 25.2375912320,60.2719212817 25.2396319109,60.2718891280 25.2402875256,60.2718786836 25.2405811153,60.2718689149 25.2415946514,60.2718349365 25.2432583334,60.2718356527 25.2429669297,60.2722967277 25.2456529138,60.2727168110 25.2456529138,60.2727168110 25.2508837337,60.2735177374 25.2513143405,60.2741974964 25.2517244924,60.2748683090 25.2517414821,60.2748929390 25.2517414821,60.2748929390 25.2520934740,60.2754662156 25.2520934740,60.2754662156 25.2522721104,60.2757489557 25.2466749774,60.2777166695 25.2461046279,60.2776021605 25.2441093535,60.2783390309 25.2447651148,60.2789596541 25.2470651612,60.2785100813 25.2471008409,60.2813341727 25.2471008409,60.2813341727 25.2470943040,60.2818240954 25.2473073945,60.2829824934 25.2459524238,60.2837244625 25.2459524238,60.2837244625 25.2438464582,60.2848806795 25.2438464582,60.2848806795 25.2447575239,60.2853176195 25.2447575239,60.2853176195 25.2458095582,60.2858109363 25.2458095582,60.2858109363 25.2538699597,60.2896283743 25.2512724587,60.2896410682 25.2515482782,60.2901129050 25.2512676670,60.2902712340 25.2479130286,60.2921638773 25.2479130286,60.2921638773 25.2455373254,60.2935078698 25.2455373254,60.2935078698 25.2506825316,60.2944935576 25.2527863561,60.2948962017 25.2527863561,60.2948962017 25.2544760337,60.2952225070 25.2528730332,60.2974552057 25.2528730332,60.2974552057 25.2511308126,60.2972235426 25.2494519532,60.2970010734 25.2494519532,60.2970010734 25.2467097393,60.2966392479 25.2446877656,60.2963651932 25.2434310812,60.2961846779 25.2404003604,60.2956856206 25.2404003604,60.2956856206 25.2381597471,60.2953285636 25.2381597471,60.2953285636 25.2375049902,60.2955106026 25.2375049902,60.2955106026 25.2345973846,60.2963248379 25.2345973846,60.2963248379 25.2327768247,60.2968188021 25.2327768247,60.2968188021 25.2328182679,60.2969594840 25.2315975290,60.2972822658 25.2295031700,60.2978359999 25.2270292480,60.2966129777 25.2270292480,60.2966129777 25.2290547749,60.2960456022 25.2290547749,60.2960456022 25.2284669783,60.2957696377 25.2284669783,60.2957696377 25.2251869192,60.2941789468 25.2254850335,60.2938979287 25.2254850335,60.2938979287 25.2247108354,60.2936980801 25.2247108354,60.2936980801 25.2225356642,60.2920343021 25.2206326201,60.2914277021 25.2206326201,60.2914277021 25.2140288001,60.2902299970 25.2140288001,60.2902299970 25.2128711057,60.2900231798 25.2128711057,60.2900231798 25.2072334489,60.2890236823 25.2072334489,60.2890236823 25.2053796485,60.2886908059 25.2015286924,60.2880003944 25.2048365076,60.2863871932 25.2048365076,60.2863871932 25.2020550570,60.2852765834 25.1993629386,60.2842036962 25.1967183079,60.2831502532 25.1966623486,60.2828760505 25.1964701426,60.2825634132 25.1962993160,60.2821698501 25.1962654997,60.2819594416 25.1962654997,60.2819594416 25.1959141044,60.2821789970 25.1959141044,60.2821789970 25.1955013059,60.2824368178 25.1955013059,60.2824368178 25.1921893566,60.2844788962 25.1902601579,60.2856645177 25.1902374726,60.2856784979 25.1895717667,60.2840993462 25.1894238728,60.2837792482 25.1878022663,60.2802435154 25.1878022663,60.2802435154 25.1877355079,60.2800392242 25.1876439843,60.2798787032 25.1876439843,60.2798787032 25.1840664791,60.2790585191 25.1840664791,60.2790585191 25.1824583062,60.2786899345 25.1815833031,60.2784852449 25.1815833031,60.2784852449 25.1787460598,60.2778174144 25.1787460598,60.2778174144 25.1782404702,60.2778228219 25.1777380431,60.2778961597 25.1768322150,60.2779912340 25.1756358257,60.2782022921 25.1748195663,60.2783269773 25.1737709886,60.2782558680 25.1723746994,60.2764294135 25.1714945840,60.2762379155 25.1693175507,60.2757508228 25.1693175507,60.2757508228 25.1593008126,60.2735139907 25.1564816251,60.2728831166 25.1539008399,60.2723015018 25.1499761529,60.2714283868 25.1499761529,60.2714283868 25.1425281052,60.2697777916 25.1425281052,60.2697777916 25.1420178002,60.2690969548 25.1420054531,60.2687460977 25.1419081717,60.2682925226 25.1420931498,60.2680271358 25.1422578703,60.2677751433 25.1424335711,60.2674256485 25.1423429063,60.2671672266 25.1423752813,60.2669297357 25.1424124863,60.2668562776 25.1427996822,60.2660915148 25.1431190406,60.2658139225 25.1419614390,60.2655874722 25.1419348826,60.2655822709 25.1417359198,60.2648479755 25.1417497956,60.2648127449 25.1417600518,60.2647866830 25.1417600518,60.2647866830 25.1417683849,60.2647655466 25.1417683849,60.2647655466 25.1421556896,60.2638309938 25.1423700237,60.2633185459 25.1423795284,60.2632958200 25.1423830657,60.2632894981 25.1424048745,60.2632507175 25.1424048745,60.2632507175 25.1424062730,60.2632483720 25.1424370575,60.2631976130 25.1424618326,60.2631605119 25.1425046161,60.2630964205 25.1425232724,60.2630776370 25.1426266905,60.2630102236 25.1426625893,60.2629388316 25.1426917296,60.2629052024 25.1427174282,60.2628749327 25.1427426753,60.2628452049 25.1427702170,60.2628123888 25.1428055815,60.2627702336 25.1428837630,60.2626784901 25.1429880167,60.2625755185 25.1431488849,60.2624228490 25.1432518274,60.2623185341 25.1433307600,60.2622385506 25.1434341713,60.2621337547 25.1436007397,60.2619649440 25.1439166685,60.2616136375 25.1440654114,60.2614274597 25.1441321830,60.2613148750 25.1441321830,60.2613148750 25.1443159883,60.2607498321 25.1442633106,60.2606715383 25.1442633106,60.2606715383 25.1440126958,60.2602990200 25.1440695733,60.2601912414 25.1441534916,60.2600410646 25.1442899656,60.2598001537 25.1444829519,60.2594566004 25.1445655655,60.2593095314 25.1445655655,60.2593095314 25.1446197185,60.2592402430 25.1446958690,60.2591890031 25.1449947573,60.2590708808 25.1454304722,60.2589038209 25.1460063189,60.2586802639 25.1462016557,60.2586067679 25.1464167767,60.2585262257 25.1465486173,60.2584664984 25.1465890784,60.2584412426 25.1465890784,60.2584412426 25.1466397015,60.2584096437 25.1467197031,60.2583385165 25.1467972461,60.2583003933 25.1470471020,60.2582479124 25.1473894138,60.2581974586 25.1475183284,60.2581522412 25.1476501992,60.2580939926 25.1477309403,60.2580678143 25.1478418978,60.2580566242 25.1480248737,60.2580362756 25.1480900351,60.2580222138 25.1482048012,60.2579990435 25.1483083923,60.2580147613 25.1484161072,60.2581172686 25.1485334297,60.2582006389 25.1486057881,60.2582966213 25.1487613152,60.2583635507 25.1488857327,60.2583777139 25.1489964744,60.2583185166 25.1490940212,60.2581941740 25.1493752788,60.2582049701 25.1498476265,60.2582321509 25.1500768301,60.2582126110 25.1503256069,60.2582011046 25.1504650613,60.2581990347 25.1505347524,60.2581786586 25.1506341298,60.2580917260 25.1507288153,60.2580265091 25.1507868515,60.2579885528 25.1507594263,60.2579605092 25.1506408141,60.2579229079 25.1505642004,60.2578993027 25.1505059196,60.2578664825 25.1504936762,60.2578454708 25.1504904617,60.2578289836 25.1504932183,60.2578159286 25.1505002187,60.2578074843 25.1505365628,60.2577921456 25.1505969392,60.2577745424 25.1506107725,60.2577703571 25.1506632121,60.2577587552 25.1507241456,60.2577503119 25.1508116287,60.2577475786 25.1508240713,60.2577480362 25.1508831896,60.2577501362 25.1509405433,60.2577596644 25.1510037232,60.2577772018 25.1510405635,60.2577821689 25.1510808014,60.2577800073 25.1511165316,60.2577724456 25.1511630743,60.2577518032 25.1512072873,60.2577275546 25.1512423513,60.2577035748 25.1512913793,60.2576760538 25.1513541769,60.2576481796 25.1514194943,60.2576304167 25.1514842062,60.2576236275 25.1515948022,60.2576166277 25.1516185046,60.2576162607 25.1516773342,60.2576153472 25.1517024269,60.2576123736 25.1517024269,60.2576123736 25.1517501796,60.2576067005 25.1517684369,60.2576024761 25.1518029772,60.2575944756 25.1518560657,60.2575807416 25.1519175856,60.2575612970 25.1519738972,60.2575400585 25.1520535433,60.2575003787 25.1521012154,60.2574702312 25.1521506416,60.2574248093 25.1521880424,60.2573820144 25.1522147025,60.2573388550 25.1522359561,60.2572919367 25.1522528055,60.2572440695 25.1522619103,60.2571963503 25.1522659276,60.2571189228 25.1522709381,60.2570919089 25.1522816120,60.2570672059 25.1523386315,60.2570389697 25.1523979106,60.2570235923 25.1524639374,60.2570157495 25.1525705174,60.2570106421 25.1527373045,60.2569899159 25.1527748004,60.2569811805 25.1527974143,60.2568080591 25.1529940243,60.2568316624 25.1530831187,60.2568342007 25.1531905260,60.2567879168 25.1532976883,60.2567295451 25.1534149875,60.2566656642 25.1534544889,60.2566441484 25.1535690888,60.2566247187 25.1538401082,60.2566754791 25.1539026543,60.2566826816 25.1539724834,60.2566433471 25.1540202870,60.2565477767 25.1541371271,60.2564508610 25.1542158668,60.2563855466 25.1542448212,60.2563615292 25.1542804488,60.2562992547 25.1542959948,60.2562349469 25.1544315267,60.2561032068 25.1545692819,60.2558946111 25.1545741905,60.2558873073 25.1545833581,60.2558747883 25.1545890615,60.2558670021 25.1546090691,60.2558397050 25.1546331257,60.2558068799 25.1546678324,60.2557595122 25.1546678324,60.2557595122 25.1547068092,60.2557267550 25.1546981421,60.2556704032 25.1546671625,60.2556389367 25.1545688046,60.2555696414 25.1545688046,60.2555696414 25.1544930994,60.2555266804 25.1543955183,60.2554091373 25.1543866589,60.2553472497 25.1544486330,60.2552782753 25.1544909331,60.2552311823 25.1544976926,60.2552231178 25.1545130573,60.2552014351 25.1545570167,60.2551393836 25.1546177305,60.2550945996 25.1546858413,60.2550696579 25.1548100494,60.2550586243 25.1548472710,60.2550417052 25.1549473852,60.2549146971 25.1549925644,60.2548893801 25.1550963975,60.2548685617 25.1552235663,60.2548785213 25.1553071582,60.2549059946 25.1553833981,60.2549313413 25.1555509580,60.2549564764 25.1556794024,60.2549488071 25.1557801572,60.2549036645 25.1558773668,60.2548209467 25.1559561682,60.2547206721 25.1560293183,60.2546707078 25.1562113869,60.2546150655 25.1564057308,60.2545556715 25.1565905282,60.2545067715 25.1567630358,60.2545139838 25.1568088449,60.2545142317 25.1568698972,60.2544894755 25.1569054190,60.2544586596 25.1569124463,60.2544362232 25.1569169219,60.2544212848 25.1569242228,60.2543917018 25.1569303558,60.2543669490 25.1569451197,60.2543175107 25.1569782351,60.2542702726 25.1570371772,60.2542158630 25.1571341126,60.2541434328 25.1572937816,60.2540540032 25.1573935672,60.2540198805 25.1574877248,60.2539921161 25.1575961227,60.2539416287 25.1575961227,60.2539416287 25.1576848714,60.2538793123 25.1576848714,60.2538793123 25.1570944123,60.2536093867 25.1571279498,60.2533278569 25.1571566999,60.2530714186 25.1571827971,60.2527756465 25.1571827971,60.2527756465 25.1571848286,60.2527523655 25.1572057627,60.2525139541 25.1572057627,60.2525139541 25.1572287301,60.2522523156 25.1572481124,60.2521075745 25.1572481124,60.2521075745 25.1572924531,60.2517766582 25.1572924531,60.2517766582 25.1573868601,60.2510719292 25.1583202636,60.2509837216 25.1583202636,60.2509837216 25.1586230753,60.2509550965 25.1586230753,60.2509550965 25.1589862958,60.2507243194 25.1591071068,60.2507499169 25.1591071068,60.2507499169 25.1593890105,60.2503725254 25.1596624730,60.2499925145 25.1598426227,60.2497384503 25.1595761258,60.2492131352 25.1598742361,60.2488186192 25.1598742361,60.2488186192 25.1588117782,60.2485936447 25.1586185555,60.2485414793 25.1586185555,60.2485414793 25.1583140622,60.2484579745 25.1574132291,60.2480639932 25.1563163092,60.2473985175 25.1552780123,60.2467583184 25.1546310358,60.2465769404 25.1540914429,60.2464268458 25.1537786352,60.2463113703 25.1524634890,60.2459515628 25.1522708696,60.2458988541 25.1522597923,60.2458991202 25.1520539694,60.2460601445 25.1519742261,60.2461225323 25.1519562504,60.2461365993 25.1519562504,60.2461365993 25.1507486531,60.2455324251 25.1507335477,60.2455248735 25.1501078508,60.2454242541 25.1483420922,60.2455318506 25.1475742553,60.2454641399 25.1470430629,60.2454712801 25.1451764126,60.2452853828 25.1446727689,60.2450957371 25.1431589640,60.2447193943 25.1422437836,60.2441545044 25.1416656565,60.2438810594 25.1417034804,60.2436321049 25.1418593339,60.2435868307 25.1417062750,60.2434649449 25.1417062750,60.2434649449 25.1407274734,60.2426853954 25.1401187569,60.2420230444 25.1396971483,60.2415319007 25.1389796702,60.2409115484 25.1385712327,60.2406143407 25.1380398407,60.2401362590 25.1376141838,60.2396308286 25.1373319544,60.2392945884 25.1371016813,60.2388072899 25.1371016813,60.2388072899 25.1368617735,60.2384881689 25.1367221035,60.2382179839 25.1362960549,60.2376634772 25.1362960549,60.2376634772 25.1359002833,60.2373558579 25.1358379485,60.2372310265 25.1354617775,60.2372485704 25.1350723158,60.2372190659 25.1350723158,60.2372190659 25.1295898536,60.2379580369 25.1295946797,60.2382156856 25.1057238444,60.2426087953 25.0913671989,60.2451836245 25.0824261539,60.2496988098 25.0875151176,60.2593051577 25.0863475019,60.2606236294 25.0891034631,60.2677981405 25.0880440571,60.2709036592 25.0879921613,60.2712462058 25.0766351528,60.2755501358 25.0684846170,60.2750317605 25.0623774578,60.2754352916 25.0615552256,60.2763742543 25.0566145315,60.2758051658 25.0533810202,60.2760149963 25.0506415789,60.2783192340 25.0491532382,60.2781082640 25.0470711871,60.2777081973 25.0460323075,60.2788704129 25.0457248384,60.2784163900 25.0451487285,60.2785423898 25.0451317458,60.2792259885 25.0450424335,60.2793435144 25.0441702002,60.2800128934 25.0437232666,60.2798759859 25.0426496585,60.2811501943 25.0424796076,60.2810998262 25.0422528155,60.2815088750 25.0433966845,60.2819036428 25.0430586571,60.2823488330 25.0422111304,60.2830680415 25.0422488157,60.2831595885 25.0415453713,60.2832873861 25.0406391225,60.2841402443 25.0408678198,60.2847354888 25.0378733452,60.2879755154 25.0375862637,60.2876271313 25.0371743076,60.2874469609 25.0367731425,60.2873703657 25.0357304440,60.2873631711 25.0352521129,60.2872038563 25.0344708038,60.2863984826 25.0344235501,60.2861160462 25.0345557620,60.2855647549 25.0344810599,60.2853627227 25.0342862805,60.2852205108 25.0338046013,60.2850371876 25.0335453742,60.2849799932 25.0328283774,60.2849622454 25.0324493369,60.2850314612 25.0313543583,60.2853975235 25.0302213575,60.2854673688 25.0290241599,60.2857140872 25.0273149259,60.2863860625 25.0268466343,60.2872883761 25.0265697124,60.2874783920 25.0259680656,60.2876634731 25.0247327723,60.2878542384 25.0240943367,60.2880046746 25.0236428238,60.2881887560 25.0230244493,60.2886173542 25.0225190234,60.2888820686 25.0216780117,60.2891982450 25.0208963291,60.2893171654 25.0197175423,60.2892156765 25.0184871638,60.2888668987 25.0165269978,60.2889813575 25.0155195543,60.2888398164 25.0145491731,60.2885426672 25.0134077883,60.2877848502 25.0120759766,60.2873487184 25.0116428585,60.2873543187 25.0109970910,60.2876888295 25.0105456025,60.2877936813 25.0095197782,60.2878275274 25.0087549269,60.2877723923 25.0084290983,60.2876254472 25.0079272371,60.2869301049 25.0072760786,60.2866198501 25.0057103132,60.2860758894 25.0054636917,60.2860964621 25.0046361387,60.2863397694 25.0039517641,60.2864444572 25.0014720000,60.2866244840 25.0006516700,60.2865468926 25.0001381888,60.2863170172 24.9999819319,60.2861415134 24.9996942247,60.2848019381 24.9994387836,60.2845000009 24.9978748074,60.2831629498 24.9975401502,60.2827899829 24.9958414804,60.2814952711 24.9956341267,60.2813970277 24.9951586392,60.2812932185 24.9939932766,60.2813193233 24.9933849130,60.2812127192 24.9910979319,60.2801977688 24.9902349674,60.2798825436 24.9897343444,60.2797655942 24.9888026795,60.2797035785 24.9874840684,60.2797120506 24.9859391131,60.2798331722 24.9852947415,60.2797775543 24.9848979266,60.2796880095 24.9845401718,60.2796682685 24.9838960726,60.2797151958 24.9835611551,60.2796484395 24.9834206960,60.2794311911 24.9826019182,60.2791315259 24.9822805152,60.2789160069 24.9821164060,60.2786769848 24.9820303047,60.2780722220 24.9817939683,60.2779066828 24.9807955092,60.2774211031 24.9807352558,60.2771648404 24.9807954552,60.2765459432 24.9807004056,60.2761849871 24.9807661624,60.2760083553 24.9804297429,60.2755961439 24.9801499350,60.2754048643 24.9795613798,60.2751683497 24.9791174365,60.2748248149 24.9779617398,60.2742650657 24.9774894704,60.2739559558 24.9771872955,60.2732501787 24.9771947433,60.2719682519 24.9770614821,60.2715762475 24.9762350496,60.2708156569 24.9755181538,60.2699216373 24.9755162315,60.2696383658 24.9757517077,60.2693241308 24.9762481055,60.2689736873 24.9773293339,60.2685564956 24.9775685781,60.2684038854 24.9779982386,60.2680560011 24.9780699493,60.2677477251 24.9773688766,60.2673218602 24.9761838139,60.2668639234 24.9757887523,60.2665625908 24.9755026095,60.2661163591 24.9755289284,60.2658091875 24.9758054744,60.2652740703 24.9756166562,60.2649746698 24.9752886868,60.2648373567 24.9737604754,60.2645866569 24.9731957145,60.2644422940 24.9714054638,60.2645827835 24.9706686833,60.2647341246 24.9701947216,60.2649097717 24.9688328119,60.2656225527 24.9672979302,60.2660343902 24.9663288074,60.2661899248 24.9658659408,60.2663078176 24.9636664973,60.2669923754 24.9627567941,60.2673297240 24.9615545258,60.2678941571 24.9607667047,60.2680978474 24.9602861407,60.2683250370 24.9599949302,60.2687257203 24.9600048307,60.2692920004 24.9598130961,60.2696115949 24.9593864234,60.2699535966 24.9573480610,60.2712046914 24.9565910990,60.2718927478 24.9558873469,60.2727886116 24.9557731338,60.2732697985 24.9567521955,60.2755486018 24.9566704296,60.2759487398 24.9565142212,60.2761549974 24.9562528327,60.2763427300 24.9554353788,60.2766460145 24.9541012243,60.2767816202 24.9535437371,60.2769466936 24.9531716942,60.2771759356 24.9530456220,60.2773360573 24.9528804552,60.2780130697 24.9526275820,60.2781559820 24.9522606145,60.2782363787 24.9515277059,60.2782971591 24.9495674586,60.2781273263 24.9489302620,60.2781984139 24.9480935940,60.2784354396 24.9476445580,60.2785102369 24.9463976786,60.2783948906 24.9456424629,60.2784032200 24.9450885608,60.2782778240 24.9435051586,60.2777689608 24.9419801293,60.2773843078 24.9401027773,60.2767391626 24.9368320353,60.2761210424 24.9351254324,60.2756545235 24.9337691112,60.2754693177 24.9319484650,60.2750605798 24.9305365907,60.2749627314 24.9283566883,60.2750724580 24.9268376759,60.2749218209 24.9245718914,60.2748130857 24.9241283701,60.2746647348 24.9231171132,60.2741668034 24.9212877726,60.2736219218 24.9205213485,60.2731082484 24.9196376046,60.2730051227 24.9179567449,60.2727179709 24.9150088266,60.2724361866 24.9125134536,60.2720170550 24.9117582307,60.2718211490 24.9112506640,60.2716295843 24.9108034351,60.2713986905 24.9104362919,60.2710322710 24.9098632587,60.2708353248 24.9092318962,60.2708033050 24.9081238445,60.2708547128 24.9074820351,60.2708170432 24.9055896361,60.2702356704 24.9040178450,60.2698787180 24.9002871137,60.2692256990 24.8994380693,60.2689760551 24.8977760277,60.2686769103 24.8953369992,60.2685131305 24.8928141418,60.2685312414 24.8924617903,60.2671474225 24.8913970646,60.2663929307 24.8772433199,60.2603088792 24.8724066702,60.2541425297 24.8687591174,60.2532681627 24.8678652385,60.2523820666 24.8676213044,60.2525036928 24.8674702840,60.2528223807 24.8670528742,60.2531809072 24.8666142014,60.2532797655 24.8659119052,60.2532763202 24.8655213473,60.2533228591 24.8651958654,60.2534947057 24.8646209800,60.2536934514 24.8642991611,60.2539151405 24.8624827514,60.2531432670 24.8578061612,60.2536074800 24.8386352635,60.2590970646 24.8377041135,60.2591052321 24.8368376488,60.2590288370 24.8354585949,60.2587726225 24.8347238484,60.2584974126 24.8336772168,60.2546686008 24.8313928073,60.2540546224 24.8313928073,60.2540546224 24.8369319972,60.2367628952 24.8359523755,60.2366830711 24.8380857578,60.2291044914 24.8381105903,60.2290309127 24.8399623591,60.2291398073 24.8419031503,60.2211997740 24.8433964917,60.2217372832 24.8451982113,60.2227703569 24.8460307474,60.2231513833 24.8470674867,60.2238456323 24.8491386188,60.2246872726 24.8501374009,60.2249007797 24.8513653483,60.2249711479 24.8478547950,60.2215939827 24.8478108575,60.2210120066 24.8476066341,60.2204664408 24.8480090657,60.2193879578 24.8480521233,60.2185991088 24.8460811021,60.2153731340 24.8459866830,60.2140375458 24.8459866830,60.2140375458 24.8459599359,60.2129923284 24.8468623524,60.2037425028 24.8427867127,60.1957593526 24.8441308928,60.1732556126 24.8444022759,60.1655835053 24.8415651447,60.1590370418 24.8409339528,60.1570275035 24.8407466002,60.1551954695 24.8408629369,60.1508698043 24.8394252672,60.1503320658 24.8371432593,60.1382218245 24.8371432593,60.1382218245 24.8356620615,60.1304130764 24.7827955220,60.0999594001 24.8419246762,60.0343976598 24.8419246762,60.0343976598 24.8440946385,60.0319869712 24.8440946385,60.0319869712 24.9422920760,59.9224888308";
+	public static final String POLYGON_OULU = "25.2914160426,65.0109992281 25.2688523908,65.0162662282 25.2480344819,65.0212658056 25.1242579213,65.0504513291 25.1348090129,65.0613423942 25.2427932617,65.0578907015 25.2968511615,65.0558638170 25.3361696070,65.0543588891 25.3443182447,65.0673324428 25.3484830200,65.0734921229 25.3602536559,65.0919674866 25.3691086524,65.1051140729 25.3692697570,65.1052362229 25.3695112289,65.1053099495 25.3701737200,65.1053432470 25.3710784099,65.1053053225 25.3715364523,65.1053972528 25.3719268232,65.1060890725 25.3721859878,65.1062552129 25.3743832990,65.1068759105 25.3757468113,65.1070521030 25.3769655696,65.1070421107 25.3776152778,65.1070861814 25.3783786558,65.1061848467 25.3804816029,65.1066076005 25.3805809894,65.1065489344 25.3811377595,65.1064927530 25.3813398050,65.1064324863 25.3819309281,65.1059824801 25.3827624146,65.1062702701 25.3847343921,65.1058011511 25.3901300894,65.1054667760 25.3928217473,65.1060481213 25.3936953581,65.1058043551 25.3966656680,65.1057038900 25.3992878210,65.1059917474 25.4003930199,65.1072238389 25.4024270440,65.1070375056 25.4038688697,65.1071777803 25.4049950134,65.1056722234 25.4068791041,65.1065736642 25.4057825191,65.1066841710 25.4068488482,65.1072521647 25.4102734109,65.1070673262 25.4276760368,65.1036645512 25.4269851493,65.1042709047 25.4277284457,65.1044264637 25.4291700815,65.1038347001 25.4301606880,65.1031795167 25.4737316395,65.0946350383 25.4738833733,65.0950607483 25.4765855676,65.0940747636 25.4838263992,65.0926617734 25.4827459812,65.0917116197 25.4869723465,65.0908557797 25.4846255461,65.0883811454 25.4980210140,65.0858969732 25.5001601256,65.0859919780 25.5013698678,65.0845428479 25.4998576037,65.0830298135 25.5058367194,65.0822613136 25.5093269923,65.0823147739 25.5128612140,65.0812462677 25.5166748951,65.0814168993 25.5177090521,65.0803879741 25.5677079605,65.0774781350 25.5790341028,65.0791355664 25.5792397574,65.0794656547 25.5856418619,65.0800968572 25.5967397203,65.0817278370 25.5993987261,65.0805370639 25.6023186585,65.0812965675 25.6086367978,65.0816381227 25.6151762870,65.0700838823 25.6170355972,65.0668156844 25.6189777771,65.0680672910 25.6217818838,65.0680980834 25.6242664923,65.0691295185 25.6251886448,65.0679876346 25.6281202729,65.0684683048 25.6283579558,65.0676854610 25.6256317831,65.0672829243 25.6253258990,65.0660971752 25.6198400058,65.0644539905 25.6227578502,65.0631926513 25.6216436339,65.0629089357 25.6189673472,65.0631678171 25.6199915933,65.0615630270 25.6221732003,65.0600896304 25.6250010669,65.0587284658 25.6368152506,65.0605856715 25.6357249049,65.0615388337 25.6488683992,65.0615230036 25.6602939627,65.0615604397 25.6881826242,65.0563531515 25.6897215326,65.0568432558 25.6922043575,65.0561095901 25.6959594939,65.0555313618 25.6957477511,65.0549568407 25.7220600006,65.0500128206 25.7220601342,65.0500100319 25.7207256388,65.0497561324 25.7214638638,65.0495017775 25.7220798364,65.0495986935 25.7232716553,65.0497862100 25.7564992439,65.0435665855 25.7548001556,65.0427841341 25.7553188615,65.0425649342 25.7566542352,65.0431272793 25.7596023369,65.0426355445 25.7615206311,65.0426090753 25.8021216658,65.0347834832 25.8198427225,65.0311043218 25.8369558253,65.0271199434 25.8617350764,65.0214219164 25.9007697998,65.0126071248 25.9351019312,65.0050567768 25.9528764442,65.0012260963 26.0298053531,64.9843993646 26.0319697560,64.9839664018 26.0389995050,64.9755662014 25.9860953204,64.9630166031 25.9763218563,64.9660167433 25.9831680099,64.9691738035 25.9829815727,64.9698509889 25.9879133533,64.9714155196 25.9863600356,64.9717017540 25.9847910390,64.9718057722 25.9826236431,64.9699986194 25.9791918561,64.9709506148 25.9737437560,64.9685930312 25.9711381912,64.9694141039 25.9724301270,64.9775053573 25.9681033879,64.9808588953 25.9652062504,64.9796998740 25.9655748439,64.9788299739 25.9651091705,64.9787458802 25.9641797423,64.9786920084 25.9637056210,64.9787507911 25.9629716747,64.9790204768 25.9622793359,64.9795137064 25.9610995210,64.9798009232 25.9602827453,64.9798494163 25.9599481881,64.9798287865 25.9596907507,64.9797610082 25.9596026299,64.9797222350 25.9631204141,64.9780735350 25.9639399460,64.9786090208 25.9680766993,64.9777592383 25.9680544051,64.9775199490 25.9398093443,64.9553889635 25.9434163197,64.9538810069 25.9724338490,64.9660003351 25.9733492455,64.9652177471 25.9771104189,64.9598738226 25.9805824041,64.9617196032 25.9884603909,64.9579201027 25.9886862505,64.9559962393 25.9935025899,64.9552356394 25.9947030455,64.9550864882 25.8963331130,64.9157465526 25.8955505816,64.9160990481 25.8937881483,64.9154721677 25.8946083801,64.9150566842 25.8600090230,64.9011809029 25.8568968179,64.9026529154 25.8547059211,64.9016564927 25.8538522364,64.9006431174 25.8547351099,64.9002287464 25.8551928976,64.9002752526 25.8561151379,64.9005808936 25.8570529002,64.9007962346 25.8577846212,64.9007788750 25.8584981499,64.9005802142 25.8525835471,64.8981912571 25.8517732713,64.8984471107 25.8514704812,64.8983496261 25.8510571082,64.8989430720 25.8516593798,64.9001728043 25.8510946131,64.9002938824 25.8495925516,64.8999272003 25.8484316639,64.8990680522 25.8486460609,64.8980912290 25.8504743748,64.8974721909 25.8473973088,64.8962202318 25.8447602653,64.8950681530 25.8438240370,64.8949766538 25.8400271235,64.8930283987 25.8401061562,64.8925881954 25.8402095125,64.8920124310 25.8410791716,64.8909323916 25.8410277787,64.8906445320 25.8362316122,64.8891768089 25.8347748400,64.8907218064 25.8309019636,64.8925162097 25.8305030753,64.8927010004 25.8300671136,64.8925096522 25.8264129760,64.8908388857 25.8233895119,64.8924570332 25.8232103296,64.8925529204 25.8210568124,64.8950068800 25.8219581095,64.8956661346 25.8192272792,64.8993818257 25.8170550601,64.8990509053 25.8167970818,64.8982272985 25.8176502524,64.8969870450 25.8178136558,64.8965727016 25.8121492050,64.8949920732 25.8116818088,64.8949730581 25.8113827542,64.8948849845 25.8107347325,64.8948528627 25.8107092681,64.8947168183 25.8102999376,64.8945902930 25.8100310516,64.8946051078 25.8100296862,64.8948219061 25.8096191887,64.8948128032 25.8089882398,64.8949315605 25.8088618041,64.8948664276 25.8089581429,64.8947491995 25.8086969265,64.8946924254 25.8081969124,64.8946776774 25.8079853090,64.8947954535 25.8078506492,64.8947967616 25.8077360735,64.8947418774 25.8076751845,64.8944194006 25.8075106945,64.8942811478 25.8071757165,64.8943044704 25.8070543312,64.8942142140 25.8073207701,64.8940494332 25.8076499938,64.8939558427 25.8075476636,64.8936136845 25.8065884526,64.8934867180 25.8059497352,64.8934594490 25.8052638223,64.8931786044 25.8048742113,64.8931871215 25.8047223047,64.8930693386 25.8044785352,64.8931639407 25.8040140501,64.8931700063 25.8036729901,64.8932988736 25.8034090227,64.8933068085 25.8034855502,64.8932114295 25.8031803048,64.8930822759 25.8029914542,64.8930673379 25.8028522422,64.8931103449 25.8026212399,64.8930192033 25.8022847554,64.8930183001 25.8021256834,64.8929620577 25.8020422277,64.8928039797 25.8023878113,64.8927778566 25.8021980686,64.8926872974 25.8021902079,64.8924278231 25.8018160571,64.8923479170 25.8012986688,64.8923999262 25.8010530080,64.8922788459 25.8009569076,64.8922136364 25.8011830213,64.8920605084 25.8010181856,64.8919107181 25.7997368118,64.8922682415 25.7969765535,64.8931779544 25.7963069701,64.8933503130 25.7964519250,64.8937399199 25.7959021866,64.8940347071 25.7953120280,64.8946260109 25.7931417196,64.8951545837 25.7919124654,64.8942761548 25.7744565534,64.8920623032 25.7683183224,64.8912818900 25.7690148810,64.8909240884 25.7712420564,64.8910741391 25.7708788241,64.8894268763 25.7685854229,64.8888488471 25.7678018740,64.8871068931 25.7653745723,64.8851307215 25.7654977816,64.8838617582 25.7647579019,64.8828127270 25.7630719424,64.8815600478 25.7623981277,64.8816717203 25.7620605577,64.8834778934 25.7615230294,64.8839946717 25.7615039559,64.8864943688 25.7578320520,64.8876419114 25.7581183810,64.8885670055 25.7523397716,64.8897282605 25.7500035795,64.8893263336 25.7504721982,64.8890023440 25.7438085584,64.8884706223 25.7420919883,64.8879036762 25.7398968271,64.8878963790 25.7350272368,64.8887439544 25.7322119092,64.8904260591 25.7403714888,64.8908417835 25.7382802834,64.8917601342 25.7368949716,64.8924272918 25.7382765088,64.8927597801 25.7383183670,64.8931311364 25.7361294193,64.8935995112 25.7348754172,64.8942356323 25.7403970219,64.8960316951 25.7290127168,64.9039758573 25.7283192883,64.9044595601 25.7289841076,64.9045804099 25.7292434516,64.9046275571 25.7289553548,64.9051879664 25.7286394399,64.9058024554 25.7276568161,64.9055196149 25.7267659939,64.9055177439 25.7194960579,64.9107340794 25.7103953022,64.9136704905 25.6761127406,64.9249009746 25.6769509538,64.9272204292 25.6806810735,64.9279237480 25.6807326167,64.9287257989 25.6820408084,64.9288727237 25.6847626704,64.9277254149 25.6825531499,64.9271270601 25.6813377452,64.9260442115 25.6828073889,64.9258959754 25.6836686163,64.9266106894 25.6859532946,64.9272088203 25.6857365036,64.9284615540 25.6856866621,64.9313917981 25.6839807168,64.9308727228 25.6828711738,64.9295073464 25.6814749027,64.9291559772 25.6793637348,64.9285165519 25.6771897433,64.9279589981 25.6757081208,64.9277198304 25.6721027112,64.9268400633 25.6713595918,64.9261389554 25.6608502937,64.9288792257 25.6619365327,64.9281478192 25.6617803404,64.9278871057 25.6588043419,64.9293963443 25.6364796369,64.9352303415 25.6357140247,64.9358112176 25.6370589108,64.9361002623 25.6360358063,64.9367062188 25.6350561098,64.9355923518 25.6139902035,64.9410855007 25.6002556556,64.9410605668 25.5846527090,64.9409324864 25.5856007091,64.9402429277 25.5830505855,64.9402904644 25.5818837838,64.9409074771 25.5421845363,64.9406937952 25.5300352477,64.9405909259 25.5303037342,64.9396436353 25.5282319775,64.9394606409 25.5253162547,64.9394048801 25.5208460761,64.9395203117 25.5196375259,64.9396378515 25.5195561332,64.9405346368 25.5198202131,64.9411404359 25.4942314692,64.9430066043 25.4937241396,64.9432597532 25.4925714998,64.9434285973 25.4917337339,64.9437023340 25.4911673506,64.9439992221 25.4903890041,64.9447990168 25.4900770390,64.9449662671 25.4884068108,64.9455146778 25.4876703768,64.9458194823 25.4866379736,64.9461196829 25.4857324807,64.9464431719 25.4856305998,64.9465228877 25.4851504979,64.9474362111 25.4851466134,64.9475940569 25.4848486699,64.9479564385 25.4840102360,64.9487771763 25.4833062561,64.9489693150 25.4831176272,64.9491479163 25.4831738591,64.9499846819 25.4836961922,64.9509935369 25.4836244620,64.9514907575 25.4830963419,64.9519925146 25.4822502906,64.9524890074 25.4818377781,64.9525688429 25.4814201772,64.9525561675 25.4809462738,64.9526029443 25.4806357790,64.9527322604 25.4802838515,64.9531901749 25.4227616102,64.9727743171 25.4221807508,64.9737309072 25.3739931540,64.9981971031 25.3260376267,65.0223560595 25.2995411336,65.0136660678 25.2914160426,65.0109992281";
+	public static final String POLYGON_HELSINKI_WKT = "POLYGON ((24.9422920760 59.9224888308, 25.1585533582 59.9424526638, 25.1585533582 59.9424526638, 25.1687391225 60.0270350324, 25.1704638875 60.0393556281, 25.1704638875 60.0393556281, 25.1715002954 60.0467548594, 25.1767764761 60.0934950727, 25.1942070194 60.1466566168, 25.1964624133 60.1512683464, 25.1964624133 60.1512683464, 25.2203941304 60.1997364442, 25.2167257358 60.2034350989, 25.2149155516 60.2050693011, 25.2014130538 60.2182042922, 25.2017170865 60.2193387301, 25.2017170865 60.2193387301, 25.2036771660 60.2265545420, 25.2043691889 60.2298960523, 25.2043691889 60.2298960523, 25.2266136056 60.2393674626, 25.2266136056 60.2393674626, 25.2230844540 60.2428390525, 25.2230844540 60.2428390525, 25.2248023093 60.2438323618, 25.2258758872 60.2444530911, 25.2270505786 60.2451322314, 25.2270505786 60.2451322314, 25.2370689042 60.2459915672, 25.2370689042 60.2459915672, 25.2408964086 60.2463196816, 25.2408445038 60.2472691873, 25.2407372084 60.2492315243, 25.2407372084 60.2492315243, 25.2408060752 60.2505507841, 25.2392714038 60.2531540489, 25.2385721914 60.2543399819, 25.2385721914 60.2543399819, 25.2374343525 60.2562696823, 25.2374343525 60.2562696823, 25.2335129913 60.2565511301, 25.2335129913 60.2565511301, 25.2303481708 60.2590112195, 25.2303481708 60.2590112195, 25.2292679359 60.2598497778, 25.2290810056 60.2599978961, 25.2288393445 60.2599238502, 25.2273236640 60.2611039310, 25.2276118305 60.2612320934, 25.2281923219 60.2613822970, 25.2281923219 60.2613822970, 25.2285563829 60.2613923932, 25.2297671338 60.2614124054, 25.2299236462 60.2614140257, 25.2302169257 60.2614316122, 25.2305936869 60.2614190839, 25.2306380418 60.2616912565, 25.2306380418 60.2616912565, 25.2306821714 60.2621561680, 25.2315590518 60.2625153501, 25.2325426626 60.2625496950, 25.2318691713 60.2653053431, 25.2318691713 60.2653053431, 25.2320600568 60.2656952243, 25.2320600568 60.2656952243, 25.2318605556 60.2672331788, 25.2344555877 60.2713977799, 25.2344555877 60.2713977799, 25.2348289816 60.2719615648, 25.2348289816 60.2719615648, 25.2375912320 60.2719212817, 25.2375912320 60.2719212817, 25.2396319109 60.2718891280, 25.2402875256 60.2718786836, 25.2405811153 60.2718689149, 25.2415946514 60.2718349365, 25.2432583334 60.2718356527, 25.2429669297 60.2722967277, 25.2456529138 60.2727168110, 25.2456529138 60.2727168110, 25.2508837337 60.2735177374, 25.2513143405 60.2741974964, 25.2517244924 60.2748683090, 25.2517414821 60.2748929390, 25.2517414821 60.2748929390, 25.2520934740 60.2754662156, 25.2520934740 60.2754662156, 25.2522721104 60.2757489557, 25.2466749774 60.2777166695, 25.2461046279 60.2776021605, 25.2441093535 60.2783390309, 25.2447651148 60.2789596541, 25.2470651612 60.2785100813, 25.2471008409 60.2813341727, 25.2471008409 60.2813341727, 25.2470943040 60.2818240954, 25.2473073945 60.2829824934, 25.2459524238 60.2837244625, 25.2459524238 60.2837244625, 25.2438464582 60.2848806795, 25.2438464582 60.2848806795, 25.2447575239 60.2853176195, 25.2447575239 60.2853176195, 25.2458095582 60.2858109363, 25.2458095582 60.2858109363, 25.2538699597 60.2896283743, 25.2512724587 60.2896410682, 25.2515482782 60.2901129050, 25.2512676670 60.2902712340, 25.2479130286 60.2921638773, 25.2479130286 60.2921638773, 25.2455373254 60.2935078698, 25.2455373254 60.2935078698, 25.2506825316 60.2944935576, 25.2527863561 60.2948962017, 25.2527863561 60.2948962017, 25.2544760337 60.2952225070, 25.2528730332 60.2974552057, 25.2528730332 60.2974552057, 25.2511308126 60.2972235426, 25.2494519532 60.2970010734, 25.2494519532 60.2970010734, 25.2467097393 60.2966392479, 25.2446877656 60.2963651932, 25.2434310812 60.2961846779, 25.2404003604 60.2956856206, 25.2404003604 60.2956856206, 25.2381597471 60.2953285636, 25.2381597471 60.2953285636, 25.2375049902 60.2955106026, 25.2375049902 60.2955106026, 25.2345973846 60.2963248379, 25.2345973846 60.2963248379, 25.2327768247 60.2968188021, 25.2327768247 60.2968188021, 25.2328182679 60.2969594840, 25.2315975290 60.2972822658, 25.2295031700 60.2978359999, 25.2270292480 60.2966129777, 25.2270292480 60.2966129777, 25.2290547749 60.2960456022, 25.2290547749 60.2960456022, 25.2284669783 60.2957696377, 25.2284669783 60.2957696377, 25.2251869192 60.2941789468, 25.2254850335 60.2938979287, 25.2254850335 60.2938979287, 25.2247108354 60.2936980801, 25.2247108354 60.2936980801, 25.2225356642 60.2920343021, 25.2206326201 60.2914277021, 25.2206326201 60.2914277021, 25.2140288001 60.2902299970, 25.2140288001 60.2902299970, 25.2128711057 60.2900231798, 25.2128711057 60.2900231798, 25.2072334489 60.2890236823, 25.2072334489 60.2890236823, 25.2053796485 60.2886908059, 25.2015286924 60.2880003944, 25.2048365076 60.2863871932, 25.2048365076 60.2863871932, 25.2020550570 60.2852765834, 25.1993629386 60.2842036962, 25.1967183079 60.2831502532, 25.1966623486 60.2828760505, 25.1964701426 60.2825634132, 25.1962993160 60.2821698501, 25.1962654997 60.2819594416, 25.1962654997 60.2819594416, 25.1959141044 60.2821789970, 25.1959141044 60.2821789970, 25.1955013059 60.2824368178, 25.1955013059 60.2824368178, 25.1921893566 60.2844788962, 25.1902601579 60.2856645177, 25.1902374726 60.2856784979, 25.1895717667 60.2840993462, 25.1894238728 60.2837792482, 25.1878022663 60.2802435154, 25.1878022663 60.2802435154, 25.1877355079 60.2800392242, 25.1876439843 60.2798787032, 25.1876439843 60.2798787032, 25.1840664791 60.2790585191, 25.1840664791 60.2790585191, 25.1824583062 60.2786899345, 25.1815833031 60.2784852449, 25.1815833031 60.2784852449, 25.1787460598 60.2778174144, 25.1787460598 60.2778174144, 25.1782404702 60.2778228219, 25.1777380431 60.2778961597, 25.1768322150 60.2779912340, 25.1756358257 60.2782022921, 25.1748195663 60.2783269773, 25.1737709886 60.2782558680, 25.1723746994 60.2764294135, 25.1714945840 60.2762379155, 25.1693175507 60.2757508228, 25.1693175507 60.2757508228, 25.1593008126 60.2735139907, 25.1564816251 60.2728831166, 25.1539008399 60.2723015018, 25.1499761529 60.2714283868, 25.1499761529 60.2714283868, 25.1425281052 60.2697777916, 25.1425281052 60.2697777916, 25.1420178002 60.2690969548, 25.1420054531 60.2687460977, 25.1419081717 60.2682925226, 25.1420931498 60.2680271358, 25.1422578703 60.2677751433, 25.1424335711 60.2674256485, 25.1423429063 60.2671672266, 25.1423752813 60.2669297357, 25.1424124863 60.2668562776, 25.1427996822 60.2660915148, 25.1431190406 60.2658139225, 25.1419614390 60.2655874722, 25.1419348826 60.2655822709, 25.1417359198 60.2648479755, 25.1417497956 60.2648127449, 25.1417600518 60.2647866830, 25.1417600518 60.2647866830, 25.1417683849 60.2647655466, 25.1417683849 60.2647655466, 25.1421556896 60.2638309938, 25.1423700237 60.2633185459, 25.1423795284 60.2632958200, 25.1423830657 60.2632894981, 25.1424048745 60.2632507175, 25.1424048745 60.2632507175, 25.1424062730 60.2632483720, 25.1424370575 60.2631976130, 25.1424618326 60.2631605119, 25.1425046161 60.2630964205, 25.1425232724 60.2630776370, 25.1426266905 60.2630102236, 25.1426625893 60.2629388316, 25.1426917296 60.2629052024, 25.1427174282 60.2628749327, 25.1427426753 60.2628452049, 25.1427702170 60.2628123888, 25.1428055815 60.2627702336, 25.1428837630 60.2626784901, 25.1429880167 60.2625755185, 25.1431488849 60.2624228490, 25.1432518274 60.2623185341, 25.1433307600 60.2622385506, 25.1434341713 60.2621337547, 25.1436007397 60.2619649440, 25.1439166685 60.2616136375, 25.1440654114 60.2614274597, 25.1441321830 60.2613148750, 25.1441321830 60.2613148750, 25.1443159883 60.2607498321, 25.1442633106 60.2606715383, 25.1442633106 60.2606715383, 25.1440126958 60.2602990200, 25.1440695733 60.2601912414, 25.1441534916 60.2600410646, 25.1442899656 60.2598001537, 25.1444829519 60.2594566004, 25.1445655655 60.2593095314, 25.1445655655 60.2593095314, 25.1446197185 60.2592402430, 25.1446958690 60.2591890031, 25.1449947573 60.2590708808, 25.1454304722 60.2589038209, 25.1460063189 60.2586802639, 25.1462016557 60.2586067679, 25.1464167767 60.2585262257, 25.1465486173 60.2584664984, 25.1465890784 60.2584412426, 25.1465890784 60.2584412426, 25.1466397015 60.2584096437, 25.1467197031 60.2583385165, 25.1467972461 60.2583003933, 25.1470471020 60.2582479124, 25.1473894138 60.2581974586, 25.1475183284 60.2581522412, 25.1476501992 60.2580939926, 25.1477309403 60.2580678143, 25.1478418978 60.2580566242, 25.1480248737 60.2580362756, 25.1480900351 60.2580222138, 25.1482048012 60.2579990435, 25.1483083923 60.2580147613, 25.1484161072 60.2581172686, 25.1485334297 60.2582006389, 25.1486057881 60.2582966213, 25.1487613152 60.2583635507, 25.1488857327 60.2583777139, 25.1489964744 60.2583185166, 25.1490940212 60.2581941740, 25.1493752788 60.2582049701, 25.1498476265 60.2582321509, 25.1500768301 60.2582126110, 25.1503256069 60.2582011046, 25.1504650613 60.2581990347, 25.1505347524 60.2581786586, 25.1506341298 60.2580917260, 25.1507288153 60.2580265091, 25.1507868515 60.2579885528, 25.1507594263 60.2579605092, 25.1506408141 60.2579229079, 25.1505642004 60.2578993027, 25.1505059196 60.2578664825, 25.1504936762 60.2578454708, 25.1504904617 60.2578289836, 25.1504932183 60.2578159286, 25.1505002187 60.2578074843, 25.1505365628 60.2577921456, 25.1505969392 60.2577745424, 25.1506107725 60.2577703571, 25.1506632121 60.2577587552, 25.1507241456 60.2577503119, 25.1508116287 60.2577475786, 25.1508240713 60.2577480362, 25.1508831896 60.2577501362, 25.1509405433 60.2577596644, 25.1510037232 60.2577772018, 25.1510405635 60.2577821689, 25.1510808014 60.2577800073, 25.1511165316 60.2577724456, 25.1511630743 60.2577518032, 25.1512072873 60.2577275546, 25.1512423513 60.2577035748, 25.1512913793 60.2576760538, 25.1513541769 60.2576481796, 25.1514194943 60.2576304167, 25.1514842062 60.2576236275, 25.1515948022 60.2576166277, 25.1516185046 60.2576162607, 25.1516773342 60.2576153472, 25.1517024269 60.2576123736, 25.1517024269 60.2576123736, 25.1517501796 60.2576067005, 25.1517684369 60.2576024761, 25.1518029772 60.2575944756, 25.1518560657 60.2575807416, 25.1519175856 60.2575612970, 25.1519738972 60.2575400585, 25.1520535433 60.2575003787, 25.1521012154 60.2574702312, 25.1521506416 60.2574248093, 25.1521880424 60.2573820144, 25.1522147025 60.2573388550, 25.1522359561 60.2572919367, 25.1522528055 60.2572440695, 25.1522619103 60.2571963503, 25.1522659276 60.2571189228, 25.1522709381 60.2570919089, 25.1522816120 60.2570672059, 25.1523386315 60.2570389697, 25.1523979106 60.2570235923, 25.1524639374 60.2570157495, 25.1525705174 60.2570106421, 25.1527373045 60.2569899159, 25.1527748004 60.2569811805, 25.1527974143 60.2568080591, 25.1529940243 60.2568316624, 25.1530831187 60.2568342007, 25.1531905260 60.2567879168, 25.1532976883 60.2567295451, 25.1534149875 60.2566656642, 25.1534544889 60.2566441484, 25.1535690888 60.2566247187, 25.1538401082 60.2566754791, 25.1539026543 60.2566826816, 25.1539724834 60.2566433471, 25.1540202870 60.2565477767, 25.1541371271 60.2564508610, 25.1542158668 60.2563855466, 25.1542448212 60.2563615292, 25.1542804488 60.2562992547, 25.1542959948 60.2562349469, 25.1544315267 60.2561032068, 25.1545692819 60.2558946111, 25.1545741905 60.2558873073, 25.1545833581 60.2558747883, 25.1545890615 60.2558670021, 25.1546090691 60.2558397050, 25.1546331257 60.2558068799, 25.1546678324 60.2557595122, 25.1546678324 60.2557595122, 25.1547068092 60.2557267550, 25.1546981421 60.2556704032, 25.1546671625 60.2556389367, 25.1545688046 60.2555696414, 25.1545688046 60.2555696414, 25.1544930994 60.2555266804, 25.1543955183 60.2554091373, 25.1543866589 60.2553472497, 25.1544486330 60.2552782753, 25.1544909331 60.2552311823, 25.1544976926 60.2552231178, 25.1545130573 60.2552014351, 25.1545570167 60.2551393836, 25.1546177305 60.2550945996, 25.1546858413 60.2550696579, 25.1548100494 60.2550586243, 25.1548472710 60.2550417052, 25.1549473852 60.2549146971, 25.1549925644 60.2548893801, 25.1550963975 60.2548685617, 25.1552235663 60.2548785213, 25.1553071582 60.2549059946, 25.1553833981 60.2549313413, 25.1555509580 60.2549564764, 25.1556794024 60.2549488071, 25.1557801572 60.2549036645, 25.1558773668 60.2548209467, 25.1559561682 60.2547206721, 25.1560293183 60.2546707078, 25.1562113869 60.2546150655, 25.1564057308 60.2545556715, 25.1565905282 60.2545067715, 25.1567630358 60.2545139838, 25.1568088449 60.2545142317, 25.1568698972 60.2544894755, 25.1569054190 60.2544586596, 25.1569124463 60.2544362232, 25.1569169219 60.2544212848, 25.1569242228 60.2543917018, 25.1569303558 60.2543669490, 25.1569451197 60.2543175107, 25.1569782351 60.2542702726, 25.1570371772 60.2542158630, 25.1571341126 60.2541434328, 25.1572937816 60.2540540032, 25.1573935672 60.2540198805, 25.1574877248 60.2539921161, 25.1575961227 60.2539416287, 25.1575961227 60.2539416287, 25.1576848714 60.2538793123, 25.1576848714 60.2538793123, 25.1570944123 60.2536093867, 25.1571279498 60.2533278569, 25.1571566999 60.2530714186, 25.1571827971 60.2527756465, 25.1571827971 60.2527756465, 25.1571848286 60.2527523655, 25.1572057627 60.2525139541, 25.1572057627 60.2525139541, 25.1572287301 60.2522523156, 25.1572481124 60.2521075745, 25.1572481124 60.2521075745, 25.1572924531 60.2517766582, 25.1572924531 60.2517766582, 25.1573868601 60.2510719292, 25.1583202636 60.2509837216, 25.1583202636 60.2509837216, 25.1586230753 60.2509550965, 25.1586230753 60.2509550965, 25.1589862958 60.2507243194, 25.1591071068 60.2507499169, 25.1591071068 60.2507499169, 25.1593890105 60.2503725254, 25.1596624730 60.2499925145, 25.1598426227 60.2497384503, 25.1595761258 60.2492131352, 25.1598742361 60.2488186192, 25.1598742361 60.2488186192, 25.1588117782 60.2485936447, 25.1586185555 60.2485414793, 25.1586185555 60.2485414793, 25.1583140622 60.2484579745, 25.1574132291 60.2480639932, 25.1563163092 60.2473985175, 25.1552780123 60.2467583184, 25.1546310358 60.2465769404, 25.1540914429 60.2464268458, 25.1537786352 60.2463113703, 25.1524634890 60.2459515628, 25.1522708696 60.2458988541, 25.1522597923 60.2458991202, 25.1520539694 60.2460601445, 25.1519742261 60.2461225323, 25.1519562504 60.2461365993, 25.1519562504 60.2461365993, 25.1507486531 60.2455324251, 25.1507335477 60.2455248735, 25.1501078508 60.2454242541, 25.1483420922 60.2455318506, 25.1475742553 60.2454641399, 25.1470430629 60.2454712801, 25.1451764126 60.2452853828, 25.1446727689 60.2450957371, 25.1431589640 60.2447193943, 25.1422437836 60.2441545044, 25.1416656565 60.2438810594, 25.1417034804 60.2436321049, 25.1418593339 60.2435868307, 25.1417062750 60.2434649449, 25.1417062750 60.2434649449, 25.1407274734 60.2426853954, 25.1401187569 60.2420230444, 25.1396971483 60.2415319007, 25.1389796702 60.2409115484, 25.1385712327 60.2406143407, 25.1380398407 60.2401362590, 25.1376141838 60.2396308286, 25.1373319544 60.2392945884, 25.1371016813 60.2388072899, 25.1371016813 60.2388072899, 25.1368617735 60.2384881689, 25.1367221035 60.2382179839, 25.1362960549 60.2376634772, 25.1362960549 60.2376634772, 25.1359002833 60.2373558579, 25.1358379485 60.2372310265, 25.1354617775 60.2372485704, 25.1350723158 60.2372190659, 25.1350723158 60.2372190659, 25.1295898536 60.2379580369, 25.1295946797 60.2382156856, 25.1057238444 60.2426087953, 25.0913671989 60.2451836245, 25.0824261539 60.2496988098, 25.0875151176 60.2593051577, 25.0863475019 60.2606236294, 25.0891034631 60.2677981405, 25.0880440571 60.2709036592, 25.0879921613 60.2712462058, 25.0766351528 60.2755501358, 25.0684846170 60.2750317605, 25.0623774578 60.2754352916, 25.0615552256 60.2763742543, 25.0566145315 60.2758051658, 25.0533810202 60.2760149963, 25.0506415789 60.2783192340, 25.0491532382 60.2781082640, 25.0470711871 60.2777081973, 25.0460323075 60.2788704129, 25.0457248384 60.2784163900, 25.0451487285 60.2785423898, 25.0451317458 60.2792259885, 25.0450424335 60.2793435144, 25.0441702002 60.2800128934, 25.0437232666 60.2798759859, 25.0426496585 60.2811501943, 25.0424796076 60.2810998262, 25.0422528155 60.2815088750, 25.0433966845 60.2819036428, 25.0430586571 60.2823488330, 25.0422111304 60.2830680415, 25.0422488157 60.2831595885, 25.0415453713 60.2832873861, 25.0406391225 60.2841402443, 25.0408678198 60.2847354888, 25.0378733452 60.2879755154, 25.0375862637 60.2876271313, 25.0371743076 60.2874469609, 25.0367731425 60.2873703657, 25.0357304440 60.2873631711, 25.0352521129 60.2872038563, 25.0344708038 60.2863984826, 25.0344235501 60.2861160462, 25.0345557620 60.2855647549, 25.0344810599 60.2853627227, 25.0342862805 60.2852205108, 25.0338046013 60.2850371876, 25.0335453742 60.2849799932, 25.0328283774 60.2849622454, 25.0324493369 60.2850314612, 25.0313543583 60.2853975235, 25.0302213575 60.2854673688, 25.0290241599 60.2857140872, 25.0273149259 60.2863860625, 25.0268466343 60.2872883761, 25.0265697124 60.2874783920, 25.0259680656 60.2876634731, 25.0247327723 60.2878542384, 25.0240943367 60.2880046746, 25.0236428238 60.2881887560, 25.0230244493 60.2886173542, 25.0225190234 60.2888820686, 25.0216780117 60.2891982450, 25.0208963291 60.2893171654, 25.0197175423 60.2892156765, 25.0184871638 60.2888668987, 25.0165269978 60.2889813575, 25.0155195543 60.2888398164, 25.0145491731 60.2885426672, 25.0134077883 60.2877848502, 25.0120759766 60.2873487184, 25.0116428585 60.2873543187, 25.0109970910 60.2876888295, 25.0105456025 60.2877936813, 25.0095197782 60.2878275274, 25.0087549269 60.2877723923, 25.0084290983 60.2876254472, 25.0079272371 60.2869301049, 25.0072760786 60.2866198501, 25.0057103132 60.2860758894, 25.0054636917 60.2860964621, 25.0046361387 60.2863397694, 25.0039517641 60.2864444572, 25.0014720000 60.2866244840, 25.0006516700 60.2865468926, 25.0001381888 60.2863170172, 24.9999819319 60.2861415134, 24.9996942247 60.2848019381, 24.9994387836 60.2845000009, 24.9978748074 60.2831629498, 24.9975401502 60.2827899829, 24.9958414804 60.2814952711, 24.9956341267 60.2813970277, 24.9951586392 60.2812932185, 24.9939932766 60.2813193233, 24.9933849130 60.2812127192, 24.9910979319 60.2801977688, 24.9902349674 60.2798825436, 24.9897343444 60.2797655942, 24.9888026795 60.2797035785, 24.9874840684 60.2797120506, 24.9859391131 60.2798331722, 24.9852947415 60.2797775543, 24.9848979266 60.2796880095, 24.9845401718 60.2796682685, 24.9838960726 60.2797151958, 24.9835611551 60.2796484395, 24.9834206960 60.2794311911, 24.9826019182 60.2791315259, 24.9822805152 60.2789160069, 24.9821164060 60.2786769848, 24.9820303047 60.2780722220, 24.9817939683 60.2779066828, 24.9807955092 60.2774211031, 24.9807352558 60.2771648404, 24.9807954552 60.2765459432, 24.9807004056 60.2761849871, 24.9807661624 60.2760083553, 24.9804297429 60.2755961439, 24.9801499350 60.2754048643, 24.9795613798 60.2751683497, 24.9791174365 60.2748248149, 24.9779617398 60.2742650657, 24.9774894704 60.2739559558, 24.9771872955 60.2732501787, 24.9771947433 60.2719682519, 24.9770614821 60.2715762475, 24.9762350496 60.2708156569, 24.9755181538 60.2699216373, 24.9755162315 60.2696383658, 24.9757517077 60.2693241308, 24.9762481055 60.2689736873, 24.9773293339 60.2685564956, 24.9775685781 60.2684038854, 24.9779982386 60.2680560011, 24.9780699493 60.2677477251, 24.9773688766 60.2673218602, 24.9761838139 60.2668639234, 24.9757887523 60.2665625908, 24.9755026095 60.2661163591, 24.9755289284 60.2658091875, 24.9758054744 60.2652740703, 24.9756166562 60.2649746698, 24.9752886868 60.2648373567, 24.9737604754 60.2645866569, 24.9731957145 60.2644422940, 24.9714054638 60.2645827835, 24.9706686833 60.2647341246, 24.9701947216 60.2649097717, 24.9688328119 60.2656225527, 24.9672979302 60.2660343902, 24.9663288074 60.2661899248, 24.9658659408 60.2663078176, 24.9636664973 60.2669923754, 24.9627567941 60.2673297240, 24.9615545258 60.2678941571, 24.9607667047 60.2680978474, 24.9602861407 60.2683250370, 24.9599949302 60.2687257203, 24.9600048307 60.2692920004, 24.9598130961 60.2696115949, 24.9593864234 60.2699535966, 24.9573480610 60.2712046914, 24.9565910990 60.2718927478, 24.9558873469 60.2727886116, 24.9557731338 60.2732697985, 24.9567521955 60.2755486018, 24.9566704296 60.2759487398, 24.9565142212 60.2761549974, 24.9562528327 60.2763427300, 24.9554353788 60.2766460145, 24.9541012243 60.2767816202, 24.9535437371 60.2769466936, 24.9531716942 60.2771759356, 24.9530456220 60.2773360573, 24.9528804552 60.2780130697, 24.9526275820 60.2781559820, 24.9522606145 60.2782363787, 24.9515277059 60.2782971591, 24.9495674586 60.2781273263, 24.9489302620 60.2781984139, 24.9480935940 60.2784354396, 24.9476445580 60.2785102369, 24.9463976786 60.2783948906, 24.9456424629 60.2784032200, 24.9450885608 60.2782778240, 24.9435051586 60.2777689608, 24.9419801293 60.2773843078, 24.9401027773 60.2767391626, 24.9368320353 60.2761210424, 24.9351254324 60.2756545235, 24.9337691112 60.2754693177, 24.9319484650 60.2750605798, 24.9305365907 60.2749627314, 24.9283566883 60.2750724580, 24.9268376759 60.2749218209, 24.9245718914 60.2748130857, 24.9241283701 60.2746647348, 24.9231171132 60.2741668034, 24.9212877726 60.2736219218, 24.9205213485 60.2731082484, 24.9196376046 60.2730051227, 24.9179567449 60.2727179709, 24.9150088266 60.2724361866, 24.9125134536 60.2720170550, 24.9117582307 60.2718211490, 24.9112506640 60.2716295843, 24.9108034351 60.2713986905, 24.9104362919 60.2710322710, 24.9098632587 60.2708353248, 24.9092318962 60.2708033050, 24.9081238445 60.2708547128, 24.9074820351 60.2708170432, 24.9055896361 60.2702356704, 24.9040178450 60.2698787180, 24.9002871137 60.2692256990, 24.8994380693 60.2689760551, 24.8977760277 60.2686769103, 24.8953369992 60.2685131305, 24.8928141418 60.2685312414, 24.8924617903 60.2671474225, 24.8913970646 60.2663929307, 24.8772433199 60.2603088792, 24.8724066702 60.2541425297, 24.8687591174 60.2532681627, 24.8678652385 60.2523820666, 24.8676213044 60.2525036928, 24.8674702840 60.2528223807, 24.8670528742 60.2531809072, 24.8666142014 60.2532797655, 24.8659119052 60.2532763202, 24.8655213473 60.2533228591, 24.8651958654 60.2534947057, 24.8646209800 60.2536934514, 24.8642991611 60.2539151405, 24.8624827514 60.2531432670, 24.8578061612 60.2536074800, 24.8386352635 60.2590970646, 24.8377041135 60.2591052321, 24.8368376488 60.2590288370, 24.8354585949 60.2587726225, 24.8347238484 60.2584974126, 24.8336772168 60.2546686008, 24.8313928073 60.2540546224, 24.8313928073 60.2540546224, 24.8369319972 60.2367628952, 24.8359523755 60.2366830711, 24.8380857578 60.2291044914, 24.8381105903 60.2290309127, 24.8399623591 60.2291398073, 24.8419031503 60.2211997740, 24.8433964917 60.2217372832, 24.8451982113 60.2227703569, 24.8460307474 60.2231513833, 24.8470674867 60.2238456323, 24.8491386188 60.2246872726, 24.8501374009 60.2249007797, 24.8513653483 60.2249711479, 24.8478547950 60.2215939827, 24.8478108575 60.2210120066, 24.8476066341 60.2204664408, 24.8480090657 60.2193879578, 24.8480521233 60.2185991088, 24.8460811021 60.2153731340, 24.8459866830 60.2140375458, 24.8459866830 60.2140375458, 24.8459599359 60.2129923284, 24.8468623524 60.2037425028, 24.8427867127 60.1957593526, 24.8441308928 60.1732556126, 24.8444022759 60.1655835053, 24.8415651447 60.1590370418, 24.8409339528 60.1570275035, 24.8407466002 60.1551954695, 24.8408629369 60.1508698043, 24.8394252672 60.1503320658, 24.8371432593 60.1382218245, 24.8371432593 60.1382218245, 24.8356620615 60.1304130764, 24.7827955220 60.0999594001, 24.8419246762 60.0343976598, 24.8419246762 60.0343976598, 24.8440946385 60.0319869712, 24.8440946385 60.0319869712, 24.9422920760 59.9224888308))";
+
     public static void main(String[] args) {
     	//BasicConfigurator.configure(); // for logging
 
-    	String polygonHelsinki = "24.9422920760,59.9224888308 25.1585533582,59.9424526638 25.1585533582,59.9424526638 25.1687391225,60.0270350324 25.1704638875,60.0393556281 25.1704638875,60.0393556281 25.1715002954,60.0467548594 25.1767764761,60.0934950727 25.1942070194,60.1466566168 25.1964624133,60.1512683464 25.1964624133,60.1512683464 25.2203941304,60.1997364442 25.2167257358,60.2034350989 25.2149155516,60.2050693011 25.2014130538,60.2182042922 25.2017170865,60.2193387301 25.2017170865,60.2193387301 25.2036771660,60.2265545420 25.2043691889,60.2298960523 25.2043691889,60.2298960523 25.2266136056,60.2393674626 25.2266136056,60.2393674626 25.2230844540,60.2428390525 25.2230844540,60.2428390525 25.2248023093,60.2438323618 25.2258758872,60.2444530911 25.2270505786,60.2451322314 25.2270505786,60.2451322314 25.2370689042,60.2459915672 25.2370689042,60.2459915672 25.2408964086,60.2463196816 25.2408445038,60.2472691873 25.2407372084,60.2492315243 25.2407372084,60.2492315243 25.2408060752,60.2505507841 25.2392714038,60.2531540489 25.2385721914,60.2543399819 25.2385721914,60.2543399819 25.2374343525,60.2562696823 25.2374343525,60.2562696823 25.2335129913,60.2565511301 25.2335129913,60.2565511301 25.2303481708,60.2590112195 25.2303481708,60.2590112195 25.2292679359,60.2598497778 25.2290810056,60.2599978961 25.2288393445,60.2599238502 25.2273236640,60.2611039310 25.2276118305,60.2612320934 25.2281923219,60.2613822970 25.2281923219,60.2613822970 25.2285563829,60.2613923932 25.2297671338,60.2614124054 25.2299236462,60.2614140257 25.2302169257,60.2614316122 25.2305936869,60.2614190839 25.2306380418,60.2616912565 25.2306380418,60.2616912565 25.2306821714,60.2621561680 25.2315590518,60.2625153501 25.2325426626,60.2625496950 25.2318691713,60.2653053431 25.2318691713,60.2653053431 25.2320600568,60.2656952243 25.2320600568,60.2656952243 25.2318605556,60.2672331788 25.2344555877,60.2713977799 25.2344555877,60.2713977799 25.2348289816,60.2719615648 25.2348289816,60.2719615648 25.2375912320,60.2719212817 25.2375912320,60.2719212817 25.2396319109,60.2718891280 25.2402875256,60.2718786836 25.2405811153,60.2718689149 25.2415946514,60.2718349365 25.2432583334,60.2718356527 25.2429669297,60.2722967277 25.2456529138,60.2727168110 25.2456529138,60.2727168110 25.2508837337,60.2735177374 25.2513143405,60.2741974964 25.2517244924,60.2748683090 25.2517414821,60.2748929390 25.2517414821,60.2748929390 25.2520934740,60.2754662156 25.2520934740,60.2754662156 25.2522721104,60.2757489557 25.2466749774,60.2777166695 25.2461046279,60.2776021605 25.2441093535,60.2783390309 25.2447651148,60.2789596541 25.2470651612,60.2785100813 25.2471008409,60.2813341727 25.2471008409,60.2813341727 25.2470943040,60.2818240954 25.2473073945,60.2829824934 25.2459524238,60.2837244625 25.2459524238,60.2837244625 25.2438464582,60.2848806795 25.2438464582,60.2848806795 25.2447575239,60.2853176195 25.2447575239,60.2853176195 25.2458095582,60.2858109363 25.2458095582,60.2858109363 25.2538699597,60.2896283743 25.2512724587,60.2896410682 25.2515482782,60.2901129050 25.2512676670,60.2902712340 25.2479130286,60.2921638773 25.2479130286,60.2921638773 25.2455373254,60.2935078698 25.2455373254,60.2935078698 25.2506825316,60.2944935576 25.2527863561,60.2948962017 25.2527863561,60.2948962017 25.2544760337,60.2952225070 25.2528730332,60.2974552057 25.2528730332,60.2974552057 25.2511308126,60.2972235426 25.2494519532,60.2970010734 25.2494519532,60.2970010734 25.2467097393,60.2966392479 25.2446877656,60.2963651932 25.2434310812,60.2961846779 25.2404003604,60.2956856206 25.2404003604,60.2956856206 25.2381597471,60.2953285636 25.2381597471,60.2953285636 25.2375049902,60.2955106026 25.2375049902,60.2955106026 25.2345973846,60.2963248379 25.2345973846,60.2963248379 25.2327768247,60.2968188021 25.2327768247,60.2968188021 25.2328182679,60.2969594840 25.2315975290,60.2972822658 25.2295031700,60.2978359999 25.2270292480,60.2966129777 25.2270292480,60.2966129777 25.2290547749,60.2960456022 25.2290547749,60.2960456022 25.2284669783,60.2957696377 25.2284669783,60.2957696377 25.2251869192,60.2941789468 25.2254850335,60.2938979287 25.2254850335,60.2938979287 25.2247108354,60.2936980801 25.2247108354,60.2936980801 25.2225356642,60.2920343021 25.2206326201,60.2914277021 25.2206326201,60.2914277021 25.2140288001,60.2902299970 25.2140288001,60.2902299970 25.2128711057,60.2900231798 25.2128711057,60.2900231798 25.2072334489,60.2890236823 25.2072334489,60.2890236823 25.2053796485,60.2886908059 25.2015286924,60.2880003944 25.2048365076,60.2863871932 25.2048365076,60.2863871932 25.2020550570,60.2852765834 25.1993629386,60.2842036962 25.1967183079,60.2831502532 25.1966623486,60.2828760505 25.1964701426,60.2825634132 25.1962993160,60.2821698501 25.1962654997,60.2819594416 25.1962654997,60.2819594416 25.1959141044,60.2821789970 25.1959141044,60.2821789970 25.1955013059,60.2824368178 25.1955013059,60.2824368178 25.1921893566,60.2844788962 25.1902601579,60.2856645177 25.1902374726,60.2856784979 25.1895717667,60.2840993462 25.1894238728,60.2837792482 25.1878022663,60.2802435154 25.1878022663,60.2802435154 25.1877355079,60.2800392242 25.1876439843,60.2798787032 25.1876439843,60.2798787032 25.1840664791,60.2790585191 25.1840664791,60.2790585191 25.1824583062,60.2786899345 25.1815833031,60.2784852449 25.1815833031,60.2784852449 25.1787460598,60.2778174144 25.1787460598,60.2778174144 25.1782404702,60.2778228219 25.1777380431,60.2778961597 25.1768322150,60.2779912340 25.1756358257,60.2782022921 25.1748195663,60.2783269773 25.1737709886,60.2782558680 25.1723746994,60.2764294135 25.1714945840,60.2762379155 25.1693175507,60.2757508228 25.1693175507,60.2757508228 25.1593008126,60.2735139907 25.1564816251,60.2728831166 25.1539008399,60.2723015018 25.1499761529,60.2714283868 25.1499761529,60.2714283868 25.1425281052,60.2697777916 25.1425281052,60.2697777916 25.1420178002,60.2690969548 25.1420054531,60.2687460977 25.1419081717,60.2682925226 25.1420931498,60.2680271358 25.1422578703,60.2677751433 25.1424335711,60.2674256485 25.1423429063,60.2671672266 25.1423752813,60.2669297357 25.1424124863,60.2668562776 25.1427996822,60.2660915148 25.1431190406,60.2658139225 25.1419614390,60.2655874722 25.1419348826,60.2655822709 25.1417359198,60.2648479755 25.1417497956,60.2648127449 25.1417600518,60.2647866830 25.1417600518,60.2647866830 25.1417683849,60.2647655466 25.1417683849,60.2647655466 25.1421556896,60.2638309938 25.1423700237,60.2633185459 25.1423795284,60.2632958200 25.1423830657,60.2632894981 25.1424048745,60.2632507175 25.1424048745,60.2632507175 25.1424062730,60.2632483720 25.1424370575,60.2631976130 25.1424618326,60.2631605119 25.1425046161,60.2630964205 25.1425232724,60.2630776370 25.1426266905,60.2630102236 25.1426625893,60.2629388316 25.1426917296,60.2629052024 25.1427174282,60.2628749327 25.1427426753,60.2628452049 25.1427702170,60.2628123888 25.1428055815,60.2627702336 25.1428837630,60.2626784901 25.1429880167,60.2625755185 25.1431488849,60.2624228490 25.1432518274,60.2623185341 25.1433307600,60.2622385506 25.1434341713,60.2621337547 25.1436007397,60.2619649440 25.1439166685,60.2616136375 25.1440654114,60.2614274597 25.1441321830,60.2613148750 25.1441321830,60.2613148750 25.1443159883,60.2607498321 25.1442633106,60.2606715383 25.1442633106,60.2606715383 25.1440126958,60.2602990200 25.1440695733,60.2601912414 25.1441534916,60.2600410646 25.1442899656,60.2598001537 25.1444829519,60.2594566004 25.1445655655,60.2593095314 25.1445655655,60.2593095314 25.1446197185,60.2592402430 25.1446958690,60.2591890031 25.1449947573,60.2590708808 25.1454304722,60.2589038209 25.1460063189,60.2586802639 25.1462016557,60.2586067679 25.1464167767,60.2585262257 25.1465486173,60.2584664984 25.1465890784,60.2584412426 25.1465890784,60.2584412426 25.1466397015,60.2584096437 25.1467197031,60.2583385165 25.1467972461,60.2583003933 25.1470471020,60.2582479124 25.1473894138,60.2581974586 25.1475183284,60.2581522412 25.1476501992,60.2580939926 25.1477309403,60.2580678143 25.1478418978,60.2580566242 25.1480248737,60.2580362756 25.1480900351,60.2580222138 25.1482048012,60.2579990435 25.1483083923,60.2580147613 25.1484161072,60.2581172686 25.1485334297,60.2582006389 25.1486057881,60.2582966213 25.1487613152,60.2583635507 25.1488857327,60.2583777139 25.1489964744,60.2583185166 25.1490940212,60.2581941740 25.1493752788,60.2582049701 25.1498476265,60.2582321509 25.1500768301,60.2582126110 25.1503256069,60.2582011046 25.1504650613,60.2581990347 25.1505347524,60.2581786586 25.1506341298,60.2580917260 25.1507288153,60.2580265091 25.1507868515,60.2579885528 25.1507594263,60.2579605092 25.1506408141,60.2579229079 25.1505642004,60.2578993027 25.1505059196,60.2578664825 25.1504936762,60.2578454708 25.1504904617,60.2578289836 25.1504932183,60.2578159286 25.1505002187,60.2578074843 25.1505365628,60.2577921456 25.1505969392,60.2577745424 25.1506107725,60.2577703571 25.1506632121,60.2577587552 25.1507241456,60.2577503119 25.1508116287,60.2577475786 25.1508240713,60.2577480362 25.1508831896,60.2577501362 25.1509405433,60.2577596644 25.1510037232,60.2577772018 25.1510405635,60.2577821689 25.1510808014,60.2577800073 25.1511165316,60.2577724456 25.1511630743,60.2577518032 25.1512072873,60.2577275546 25.1512423513,60.2577035748 25.1512913793,60.2576760538 25.1513541769,60.2576481796 25.1514194943,60.2576304167 25.1514842062,60.2576236275 25.1515948022,60.2576166277 25.1516185046,60.2576162607 25.1516773342,60.2576153472 25.1517024269,60.2576123736 25.1517024269,60.2576123736 25.1517501796,60.2576067005 25.1517684369,60.2576024761 25.1518029772,60.2575944756 25.1518560657,60.2575807416 25.1519175856,60.2575612970 25.1519738972,60.2575400585 25.1520535433,60.2575003787 25.1521012154,60.2574702312 25.1521506416,60.2574248093 25.1521880424,60.2573820144 25.1522147025,60.2573388550 25.1522359561,60.2572919367 25.1522528055,60.2572440695 25.1522619103,60.2571963503 25.1522659276,60.2571189228 25.1522709381,60.2570919089 25.1522816120,60.2570672059 25.1523386315,60.2570389697 25.1523979106,60.2570235923 25.1524639374,60.2570157495 25.1525705174,60.2570106421 25.1527373045,60.2569899159 25.1527748004,60.2569811805 25.1527974143,60.2568080591 25.1529940243,60.2568316624 25.1530831187,60.2568342007 25.1531905260,60.2567879168 25.1532976883,60.2567295451 25.1534149875,60.2566656642 25.1534544889,60.2566441484 25.1535690888,60.2566247187 25.1538401082,60.2566754791 25.1539026543,60.2566826816 25.1539724834,60.2566433471 25.1540202870,60.2565477767 25.1541371271,60.2564508610 25.1542158668,60.2563855466 25.1542448212,60.2563615292 25.1542804488,60.2562992547 25.1542959948,60.2562349469 25.1544315267,60.2561032068 25.1545692819,60.2558946111 25.1545741905,60.2558873073 25.1545833581,60.2558747883 25.1545890615,60.2558670021 25.1546090691,60.2558397050 25.1546331257,60.2558068799 25.1546678324,60.2557595122 25.1546678324,60.2557595122 25.1547068092,60.2557267550 25.1546981421,60.2556704032 25.1546671625,60.2556389367 25.1545688046,60.2555696414 25.1545688046,60.2555696414 25.1544930994,60.2555266804 25.1543955183,60.2554091373 25.1543866589,60.2553472497 25.1544486330,60.2552782753 25.1544909331,60.2552311823 25.1544976926,60.2552231178 25.1545130573,60.2552014351 25.1545570167,60.2551393836 25.1546177305,60.2550945996 25.1546858413,60.2550696579 25.1548100494,60.2550586243 25.1548472710,60.2550417052 25.1549473852,60.2549146971 25.1549925644,60.2548893801 25.1550963975,60.2548685617 25.1552235663,60.2548785213 25.1553071582,60.2549059946 25.1553833981,60.2549313413 25.1555509580,60.2549564764 25.1556794024,60.2549488071 25.1557801572,60.2549036645 25.1558773668,60.2548209467 25.1559561682,60.2547206721 25.1560293183,60.2546707078 25.1562113869,60.2546150655 25.1564057308,60.2545556715 25.1565905282,60.2545067715 25.1567630358,60.2545139838 25.1568088449,60.2545142317 25.1568698972,60.2544894755 25.1569054190,60.2544586596 25.1569124463,60.2544362232 25.1569169219,60.2544212848 25.1569242228,60.2543917018 25.1569303558,60.2543669490 25.1569451197,60.2543175107 25.1569782351,60.2542702726 25.1570371772,60.2542158630 25.1571341126,60.2541434328 25.1572937816,60.2540540032 25.1573935672,60.2540198805 25.1574877248,60.2539921161 25.1575961227,60.2539416287 25.1575961227,60.2539416287 25.1576848714,60.2538793123 25.1576848714,60.2538793123 25.1570944123,60.2536093867 25.1571279498,60.2533278569 25.1571566999,60.2530714186 25.1571827971,60.2527756465 25.1571827971,60.2527756465 25.1571848286,60.2527523655 25.1572057627,60.2525139541 25.1572057627,60.2525139541 25.1572287301,60.2522523156 25.1572481124,60.2521075745 25.1572481124,60.2521075745 25.1572924531,60.2517766582 25.1572924531,60.2517766582 25.1573868601,60.2510719292 25.1583202636,60.2509837216 25.1583202636,60.2509837216 25.1586230753,60.2509550965 25.1586230753,60.2509550965 25.1589862958,60.2507243194 25.1591071068,60.2507499169 25.1591071068,60.2507499169 25.1593890105,60.2503725254 25.1596624730,60.2499925145 25.1598426227,60.2497384503 25.1595761258,60.2492131352 25.1598742361,60.2488186192 25.1598742361,60.2488186192 25.1588117782,60.2485936447 25.1586185555,60.2485414793 25.1586185555,60.2485414793 25.1583140622,60.2484579745 25.1574132291,60.2480639932 25.1563163092,60.2473985175 25.1552780123,60.2467583184 25.1546310358,60.2465769404 25.1540914429,60.2464268458 25.1537786352,60.2463113703 25.1524634890,60.2459515628 25.1522708696,60.2458988541 25.1522597923,60.2458991202 25.1520539694,60.2460601445 25.1519742261,60.2461225323 25.1519562504,60.2461365993 25.1519562504,60.2461365993 25.1507486531,60.2455324251 25.1507335477,60.2455248735 25.1501078508,60.2454242541 25.1483420922,60.2455318506 25.1475742553,60.2454641399 25.1470430629,60.2454712801 25.1451764126,60.2452853828 25.1446727689,60.2450957371 25.1431589640,60.2447193943 25.1422437836,60.2441545044 25.1416656565,60.2438810594 25.1417034804,60.2436321049 25.1418593339,60.2435868307 25.1417062750,60.2434649449 25.1417062750,60.2434649449 25.1407274734,60.2426853954 25.1401187569,60.2420230444 25.1396971483,60.2415319007 25.1389796702,60.2409115484 25.1385712327,60.2406143407 25.1380398407,60.2401362590 25.1376141838,60.2396308286 25.1373319544,60.2392945884 25.1371016813,60.2388072899 25.1371016813,60.2388072899 25.1368617735,60.2384881689 25.1367221035,60.2382179839 25.1362960549,60.2376634772 25.1362960549,60.2376634772 25.1359002833,60.2373558579 25.1358379485,60.2372310265 25.1354617775,60.2372485704 25.1350723158,60.2372190659 25.1350723158,60.2372190659 25.1295898536,60.2379580369 25.1295946797,60.2382156856 25.1057238444,60.2426087953 25.0913671989,60.2451836245 25.0824261539,60.2496988098 25.0875151176,60.2593051577 25.0863475019,60.2606236294 25.0891034631,60.2677981405 25.0880440571,60.2709036592 25.0879921613,60.2712462058 25.0766351528,60.2755501358 25.0684846170,60.2750317605 25.0623774578,60.2754352916 25.0615552256,60.2763742543 25.0566145315,60.2758051658 25.0533810202,60.2760149963 25.0506415789,60.2783192340 25.0491532382,60.2781082640 25.0470711871,60.2777081973 25.0460323075,60.2788704129 25.0457248384,60.2784163900 25.0451487285,60.2785423898 25.0451317458,60.2792259885 25.0450424335,60.2793435144 25.0441702002,60.2800128934 25.0437232666,60.2798759859 25.0426496585,60.2811501943 25.0424796076,60.2810998262 25.0422528155,60.2815088750 25.0433966845,60.2819036428 25.0430586571,60.2823488330 25.0422111304,60.2830680415 25.0422488157,60.2831595885 25.0415453713,60.2832873861 25.0406391225,60.2841402443 25.0408678198,60.2847354888 25.0378733452,60.2879755154 25.0375862637,60.2876271313 25.0371743076,60.2874469609 25.0367731425,60.2873703657 25.0357304440,60.2873631711 25.0352521129,60.2872038563 25.0344708038,60.2863984826 25.0344235501,60.2861160462 25.0345557620,60.2855647549 25.0344810599,60.2853627227 25.0342862805,60.2852205108 25.0338046013,60.2850371876 25.0335453742,60.2849799932 25.0328283774,60.2849622454 25.0324493369,60.2850314612 25.0313543583,60.2853975235 25.0302213575,60.2854673688 25.0290241599,60.2857140872 25.0273149259,60.2863860625 25.0268466343,60.2872883761 25.0265697124,60.2874783920 25.0259680656,60.2876634731 25.0247327723,60.2878542384 25.0240943367,60.2880046746 25.0236428238,60.2881887560 25.0230244493,60.2886173542 25.0225190234,60.2888820686 25.0216780117,60.2891982450 25.0208963291,60.2893171654 25.0197175423,60.2892156765 25.0184871638,60.2888668987 25.0165269978,60.2889813575 25.0155195543,60.2888398164 25.0145491731,60.2885426672 25.0134077883,60.2877848502 25.0120759766,60.2873487184 25.0116428585,60.2873543187 25.0109970910,60.2876888295 25.0105456025,60.2877936813 25.0095197782,60.2878275274 25.0087549269,60.2877723923 25.0084290983,60.2876254472 25.0079272371,60.2869301049 25.0072760786,60.2866198501 25.0057103132,60.2860758894 25.0054636917,60.2860964621 25.0046361387,60.2863397694 25.0039517641,60.2864444572 25.0014720000,60.2866244840 25.0006516700,60.2865468926 25.0001381888,60.2863170172 24.9999819319,60.2861415134 24.9996942247,60.2848019381 24.9994387836,60.2845000009 24.9978748074,60.2831629498 24.9975401502,60.2827899829 24.9958414804,60.2814952711 24.9956341267,60.2813970277 24.9951586392,60.2812932185 24.9939932766,60.2813193233 24.9933849130,60.2812127192 24.9910979319,60.2801977688 24.9902349674,60.2798825436 24.9897343444,60.2797655942 24.9888026795,60.2797035785 24.9874840684,60.2797120506 24.9859391131,60.2798331722 24.9852947415,60.2797775543 24.9848979266,60.2796880095 24.9845401718,60.2796682685 24.9838960726,60.2797151958 24.9835611551,60.2796484395 24.9834206960,60.2794311911 24.9826019182,60.2791315259 24.9822805152,60.2789160069 24.9821164060,60.2786769848 24.9820303047,60.2780722220 24.9817939683,60.2779066828 24.9807955092,60.2774211031 24.9807352558,60.2771648404 24.9807954552,60.2765459432 24.9807004056,60.2761849871 24.9807661624,60.2760083553 24.9804297429,60.2755961439 24.9801499350,60.2754048643 24.9795613798,60.2751683497 24.9791174365,60.2748248149 24.9779617398,60.2742650657 24.9774894704,60.2739559558 24.9771872955,60.2732501787 24.9771947433,60.2719682519 24.9770614821,60.2715762475 24.9762350496,60.2708156569 24.9755181538,60.2699216373 24.9755162315,60.2696383658 24.9757517077,60.2693241308 24.9762481055,60.2689736873 24.9773293339,60.2685564956 24.9775685781,60.2684038854 24.9779982386,60.2680560011 24.9780699493,60.2677477251 24.9773688766,60.2673218602 24.9761838139,60.2668639234 24.9757887523,60.2665625908 24.9755026095,60.2661163591 24.9755289284,60.2658091875 24.9758054744,60.2652740703 24.9756166562,60.2649746698 24.9752886868,60.2648373567 24.9737604754,60.2645866569 24.9731957145,60.2644422940 24.9714054638,60.2645827835 24.9706686833,60.2647341246 24.9701947216,60.2649097717 24.9688328119,60.2656225527 24.9672979302,60.2660343902 24.9663288074,60.2661899248 24.9658659408,60.2663078176 24.9636664973,60.2669923754 24.9627567941,60.2673297240 24.9615545258,60.2678941571 24.9607667047,60.2680978474 24.9602861407,60.2683250370 24.9599949302,60.2687257203 24.9600048307,60.2692920004 24.9598130961,60.2696115949 24.9593864234,60.2699535966 24.9573480610,60.2712046914 24.9565910990,60.2718927478 24.9558873469,60.2727886116 24.9557731338,60.2732697985 24.9567521955,60.2755486018 24.9566704296,60.2759487398 24.9565142212,60.2761549974 24.9562528327,60.2763427300 24.9554353788,60.2766460145 24.9541012243,60.2767816202 24.9535437371,60.2769466936 24.9531716942,60.2771759356 24.9530456220,60.2773360573 24.9528804552,60.2780130697 24.9526275820,60.2781559820 24.9522606145,60.2782363787 24.9515277059,60.2782971591 24.9495674586,60.2781273263 24.9489302620,60.2781984139 24.9480935940,60.2784354396 24.9476445580,60.2785102369 24.9463976786,60.2783948906 24.9456424629,60.2784032200 24.9450885608,60.2782778240 24.9435051586,60.2777689608 24.9419801293,60.2773843078 24.9401027773,60.2767391626 24.9368320353,60.2761210424 24.9351254324,60.2756545235 24.9337691112,60.2754693177 24.9319484650,60.2750605798 24.9305365907,60.2749627314 24.9283566883,60.2750724580 24.9268376759,60.2749218209 24.9245718914,60.2748130857 24.9241283701,60.2746647348 24.9231171132,60.2741668034 24.9212877726,60.2736219218 24.9205213485,60.2731082484 24.9196376046,60.2730051227 24.9179567449,60.2727179709 24.9150088266,60.2724361866 24.9125134536,60.2720170550 24.9117582307,60.2718211490 24.9112506640,60.2716295843 24.9108034351,60.2713986905 24.9104362919,60.2710322710 24.9098632587,60.2708353248 24.9092318962,60.2708033050 24.9081238445,60.2708547128 24.9074820351,60.2708170432 24.9055896361,60.2702356704 24.9040178450,60.2698787180 24.9002871137,60.2692256990 24.8994380693,60.2689760551 24.8977760277,60.2686769103 24.8953369992,60.2685131305 24.8928141418,60.2685312414 24.8924617903,60.2671474225 24.8913970646,60.2663929307 24.8772433199,60.2603088792 24.8724066702,60.2541425297 24.8687591174,60.2532681627 24.8678652385,60.2523820666 24.8676213044,60.2525036928 24.8674702840,60.2528223807 24.8670528742,60.2531809072 24.8666142014,60.2532797655 24.8659119052,60.2532763202 24.8655213473,60.2533228591 24.8651958654,60.2534947057 24.8646209800,60.2536934514 24.8642991611,60.2539151405 24.8624827514,60.2531432670 24.8578061612,60.2536074800 24.8386352635,60.2590970646 24.8377041135,60.2591052321 24.8368376488,60.2590288370 24.8354585949,60.2587726225 24.8347238484,60.2584974126 24.8336772168,60.2546686008 24.8313928073,60.2540546224 24.8313928073,60.2540546224 24.8369319972,60.2367628952 24.8359523755,60.2366830711 24.8380857578,60.2291044914 24.8381105903,60.2290309127 24.8399623591,60.2291398073 24.8419031503,60.2211997740 24.8433964917,60.2217372832 24.8451982113,60.2227703569 24.8460307474,60.2231513833 24.8470674867,60.2238456323 24.8491386188,60.2246872726 24.8501374009,60.2249007797 24.8513653483,60.2249711479 24.8478547950,60.2215939827 24.8478108575,60.2210120066 24.8476066341,60.2204664408 24.8480090657,60.2193879578 24.8480521233,60.2185991088 24.8460811021,60.2153731340 24.8459866830,60.2140375458 24.8459866830,60.2140375458 24.8459599359,60.2129923284 24.8468623524,60.2037425028 24.8427867127,60.1957593526 24.8441308928,60.1732556126 24.8444022759,60.1655835053 24.8415651447,60.1590370418 24.8409339528,60.1570275035 24.8407466002,60.1551954695 24.8408629369,60.1508698043 24.8394252672,60.1503320658 24.8371432593,60.1382218245 24.8371432593,60.1382218245 24.8356620615,60.1304130764 24.7827955220,60.0999594001 24.8419246762,60.0343976598 24.8419246762,60.0343976598 24.8440946385,60.0319869712 24.8440946385,60.0319869712 24.9422920760,59.9224888308";
-        String polygonOulu = "25.2914160426,65.0109992281 25.2688523908,65.0162662282 25.2480344819,65.0212658056 25.1242579213,65.0504513291 25.1348090129,65.0613423942 25.2427932617,65.0578907015 25.2968511615,65.0558638170 25.3361696070,65.0543588891 25.3443182447,65.0673324428 25.3484830200,65.0734921229 25.3602536559,65.0919674866 25.3691086524,65.1051140729 25.3692697570,65.1052362229 25.3695112289,65.1053099495 25.3701737200,65.1053432470 25.3710784099,65.1053053225 25.3715364523,65.1053972528 25.3719268232,65.1060890725 25.3721859878,65.1062552129 25.3743832990,65.1068759105 25.3757468113,65.1070521030 25.3769655696,65.1070421107 25.3776152778,65.1070861814 25.3783786558,65.1061848467 25.3804816029,65.1066076005 25.3805809894,65.1065489344 25.3811377595,65.1064927530 25.3813398050,65.1064324863 25.3819309281,65.1059824801 25.3827624146,65.1062702701 25.3847343921,65.1058011511 25.3901300894,65.1054667760 25.3928217473,65.1060481213 25.3936953581,65.1058043551 25.3966656680,65.1057038900 25.3992878210,65.1059917474 25.4003930199,65.1072238389 25.4024270440,65.1070375056 25.4038688697,65.1071777803 25.4049950134,65.1056722234 25.4068791041,65.1065736642 25.4057825191,65.1066841710 25.4068488482,65.1072521647 25.4102734109,65.1070673262 25.4276760368,65.1036645512 25.4269851493,65.1042709047 25.4277284457,65.1044264637 25.4291700815,65.1038347001 25.4301606880,65.1031795167 25.4737316395,65.0946350383 25.4738833733,65.0950607483 25.4765855676,65.0940747636 25.4838263992,65.0926617734 25.4827459812,65.0917116197 25.4869723465,65.0908557797 25.4846255461,65.0883811454 25.4980210140,65.0858969732 25.5001601256,65.0859919780 25.5013698678,65.0845428479 25.4998576037,65.0830298135 25.5058367194,65.0822613136 25.5093269923,65.0823147739 25.5128612140,65.0812462677 25.5166748951,65.0814168993 25.5177090521,65.0803879741 25.5677079605,65.0774781350 25.5790341028,65.0791355664 25.5792397574,65.0794656547 25.5856418619,65.0800968572 25.5967397203,65.0817278370 25.5993987261,65.0805370639 25.6023186585,65.0812965675 25.6086367978,65.0816381227 25.6151762870,65.0700838823 25.6170355972,65.0668156844 25.6189777771,65.0680672910 25.6217818838,65.0680980834 25.6242664923,65.0691295185 25.6251886448,65.0679876346 25.6281202729,65.0684683048 25.6283579558,65.0676854610 25.6256317831,65.0672829243 25.6253258990,65.0660971752 25.6198400058,65.0644539905 25.6227578502,65.0631926513 25.6216436339,65.0629089357 25.6189673472,65.0631678171 25.6199915933,65.0615630270 25.6221732003,65.0600896304 25.6250010669,65.0587284658 25.6368152506,65.0605856715 25.6357249049,65.0615388337 25.6488683992,65.0615230036 25.6602939627,65.0615604397 25.6881826242,65.0563531515 25.6897215326,65.0568432558 25.6922043575,65.0561095901 25.6959594939,65.0555313618 25.6957477511,65.0549568407 25.7220600006,65.0500128206 25.7220601342,65.0500100319 25.7207256388,65.0497561324 25.7214638638,65.0495017775 25.7220798364,65.0495986935 25.7232716553,65.0497862100 25.7564992439,65.0435665855 25.7548001556,65.0427841341 25.7553188615,65.0425649342 25.7566542352,65.0431272793 25.7596023369,65.0426355445 25.7615206311,65.0426090753 25.8021216658,65.0347834832 25.8198427225,65.0311043218 25.8369558253,65.0271199434 25.8617350764,65.0214219164 25.9007697998,65.0126071248 25.9351019312,65.0050567768 25.9528764442,65.0012260963 26.0298053531,64.9843993646 26.0319697560,64.9839664018 26.0389995050,64.9755662014 25.9860953204,64.9630166031 25.9763218563,64.9660167433 25.9831680099,64.9691738035 25.9829815727,64.9698509889 25.9879133533,64.9714155196 25.9863600356,64.9717017540 25.9847910390,64.9718057722 25.9826236431,64.9699986194 25.9791918561,64.9709506148 25.9737437560,64.9685930312 25.9711381912,64.9694141039 25.9724301270,64.9775053573 25.9681033879,64.9808588953 25.9652062504,64.9796998740 25.9655748439,64.9788299739 25.9651091705,64.9787458802 25.9641797423,64.9786920084 25.9637056210,64.9787507911 25.9629716747,64.9790204768 25.9622793359,64.9795137064 25.9610995210,64.9798009232 25.9602827453,64.9798494163 25.9599481881,64.9798287865 25.9596907507,64.9797610082 25.9596026299,64.9797222350 25.9631204141,64.9780735350 25.9639399460,64.9786090208 25.9680766993,64.9777592383 25.9680544051,64.9775199490 25.9398093443,64.9553889635 25.9434163197,64.9538810069 25.9724338490,64.9660003351 25.9733492455,64.9652177471 25.9771104189,64.9598738226 25.9805824041,64.9617196032 25.9884603909,64.9579201027 25.9886862505,64.9559962393 25.9935025899,64.9552356394 25.9947030455,64.9550864882 25.8963331130,64.9157465526 25.8955505816,64.9160990481 25.8937881483,64.9154721677 25.8946083801,64.9150566842 25.8600090230,64.9011809029 25.8568968179,64.9026529154 25.8547059211,64.9016564927 25.8538522364,64.9006431174 25.8547351099,64.9002287464 25.8551928976,64.9002752526 25.8561151379,64.9005808936 25.8570529002,64.9007962346 25.8577846212,64.9007788750 25.8584981499,64.9005802142 25.8525835471,64.8981912571 25.8517732713,64.8984471107 25.8514704812,64.8983496261 25.8510571082,64.8989430720 25.8516593798,64.9001728043 25.8510946131,64.9002938824 25.8495925516,64.8999272003 25.8484316639,64.8990680522 25.8486460609,64.8980912290 25.8504743748,64.8974721909 25.8473973088,64.8962202318 25.8447602653,64.8950681530 25.8438240370,64.8949766538 25.8400271235,64.8930283987 25.8401061562,64.8925881954 25.8402095125,64.8920124310 25.8410791716,64.8909323916 25.8410277787,64.8906445320 25.8362316122,64.8891768089 25.8347748400,64.8907218064 25.8309019636,64.8925162097 25.8305030753,64.8927010004 25.8300671136,64.8925096522 25.8264129760,64.8908388857 25.8233895119,64.8924570332 25.8232103296,64.8925529204 25.8210568124,64.8950068800 25.8219581095,64.8956661346 25.8192272792,64.8993818257 25.8170550601,64.8990509053 25.8167970818,64.8982272985 25.8176502524,64.8969870450 25.8178136558,64.8965727016 25.8121492050,64.8949920732 25.8116818088,64.8949730581 25.8113827542,64.8948849845 25.8107347325,64.8948528627 25.8107092681,64.8947168183 25.8102999376,64.8945902930 25.8100310516,64.8946051078 25.8100296862,64.8948219061 25.8096191887,64.8948128032 25.8089882398,64.8949315605 25.8088618041,64.8948664276 25.8089581429,64.8947491995 25.8086969265,64.8946924254 25.8081969124,64.8946776774 25.8079853090,64.8947954535 25.8078506492,64.8947967616 25.8077360735,64.8947418774 25.8076751845,64.8944194006 25.8075106945,64.8942811478 25.8071757165,64.8943044704 25.8070543312,64.8942142140 25.8073207701,64.8940494332 25.8076499938,64.8939558427 25.8075476636,64.8936136845 25.8065884526,64.8934867180 25.8059497352,64.8934594490 25.8052638223,64.8931786044 25.8048742113,64.8931871215 25.8047223047,64.8930693386 25.8044785352,64.8931639407 25.8040140501,64.8931700063 25.8036729901,64.8932988736 25.8034090227,64.8933068085 25.8034855502,64.8932114295 25.8031803048,64.8930822759 25.8029914542,64.8930673379 25.8028522422,64.8931103449 25.8026212399,64.8930192033 25.8022847554,64.8930183001 25.8021256834,64.8929620577 25.8020422277,64.8928039797 25.8023878113,64.8927778566 25.8021980686,64.8926872974 25.8021902079,64.8924278231 25.8018160571,64.8923479170 25.8012986688,64.8923999262 25.8010530080,64.8922788459 25.8009569076,64.8922136364 25.8011830213,64.8920605084 25.8010181856,64.8919107181 25.7997368118,64.8922682415 25.7969765535,64.8931779544 25.7963069701,64.8933503130 25.7964519250,64.8937399199 25.7959021866,64.8940347071 25.7953120280,64.8946260109 25.7931417196,64.8951545837 25.7919124654,64.8942761548 25.7744565534,64.8920623032 25.7683183224,64.8912818900 25.7690148810,64.8909240884 25.7712420564,64.8910741391 25.7708788241,64.8894268763 25.7685854229,64.8888488471 25.7678018740,64.8871068931 25.7653745723,64.8851307215 25.7654977816,64.8838617582 25.7647579019,64.8828127270 25.7630719424,64.8815600478 25.7623981277,64.8816717203 25.7620605577,64.8834778934 25.7615230294,64.8839946717 25.7615039559,64.8864943688 25.7578320520,64.8876419114 25.7581183810,64.8885670055 25.7523397716,64.8897282605 25.7500035795,64.8893263336 25.7504721982,64.8890023440 25.7438085584,64.8884706223 25.7420919883,64.8879036762 25.7398968271,64.8878963790 25.7350272368,64.8887439544 25.7322119092,64.8904260591 25.7403714888,64.8908417835 25.7382802834,64.8917601342 25.7368949716,64.8924272918 25.7382765088,64.8927597801 25.7383183670,64.8931311364 25.7361294193,64.8935995112 25.7348754172,64.8942356323 25.7403970219,64.8960316951 25.7290127168,64.9039758573 25.7283192883,64.9044595601 25.7289841076,64.9045804099 25.7292434516,64.9046275571 25.7289553548,64.9051879664 25.7286394399,64.9058024554 25.7276568161,64.9055196149 25.7267659939,64.9055177439 25.7194960579,64.9107340794 25.7103953022,64.9136704905 25.6761127406,64.9249009746 25.6769509538,64.9272204292 25.6806810735,64.9279237480 25.6807326167,64.9287257989 25.6820408084,64.9288727237 25.6847626704,64.9277254149 25.6825531499,64.9271270601 25.6813377452,64.9260442115 25.6828073889,64.9258959754 25.6836686163,64.9266106894 25.6859532946,64.9272088203 25.6857365036,64.9284615540 25.6856866621,64.9313917981 25.6839807168,64.9308727228 25.6828711738,64.9295073464 25.6814749027,64.9291559772 25.6793637348,64.9285165519 25.6771897433,64.9279589981 25.6757081208,64.9277198304 25.6721027112,64.9268400633 25.6713595918,64.9261389554 25.6608502937,64.9288792257 25.6619365327,64.9281478192 25.6617803404,64.9278871057 25.6588043419,64.9293963443 25.6364796369,64.9352303415 25.6357140247,64.9358112176 25.6370589108,64.9361002623 25.6360358063,64.9367062188 25.6350561098,64.9355923518 25.6139902035,64.9410855007 25.6002556556,64.9410605668 25.5846527090,64.9409324864 25.5856007091,64.9402429277 25.5830505855,64.9402904644 25.5818837838,64.9409074771 25.5421845363,64.9406937952 25.5300352477,64.9405909259 25.5303037342,64.9396436353 25.5282319775,64.9394606409 25.5253162547,64.9394048801 25.5208460761,64.9395203117 25.5196375259,64.9396378515 25.5195561332,64.9405346368 25.5198202131,64.9411404359 25.4942314692,64.9430066043 25.4937241396,64.9432597532 25.4925714998,64.9434285973 25.4917337339,64.9437023340 25.4911673506,64.9439992221 25.4903890041,64.9447990168 25.4900770390,64.9449662671 25.4884068108,64.9455146778 25.4876703768,64.9458194823 25.4866379736,64.9461196829 25.4857324807,64.9464431719 25.4856305998,64.9465228877 25.4851504979,64.9474362111 25.4851466134,64.9475940569 25.4848486699,64.9479564385 25.4840102360,64.9487771763 25.4833062561,64.9489693150 25.4831176272,64.9491479163 25.4831738591,64.9499846819 25.4836961922,64.9509935369 25.4836244620,64.9514907575 25.4830963419,64.9519925146 25.4822502906,64.9524890074 25.4818377781,64.9525688429 25.4814201772,64.9525561675 25.4809462738,64.9526029443 25.4806357790,64.9527322604 25.4802838515,64.9531901749 25.4227616102,64.9727743171 25.4221807508,64.9737309072 25.3739931540,64.9981971031 25.3260376267,65.0223560595 25.2995411336,65.0136660678 25.2914160426,65.0109992281";
-    	String polygonHelsinkiWKT = "POLYGON ((24.9422920760 59.9224888308, 25.1585533582 59.9424526638, 25.1585533582 59.9424526638, 25.1687391225 60.0270350324, 25.1704638875 60.0393556281, 25.1704638875 60.0393556281, 25.1715002954 60.0467548594, 25.1767764761 60.0934950727, 25.1942070194 60.1466566168, 25.1964624133 60.1512683464, 25.1964624133 60.1512683464, 25.2203941304 60.1997364442, 25.2167257358 60.2034350989, 25.2149155516 60.2050693011, 25.2014130538 60.2182042922, 25.2017170865 60.2193387301, 25.2017170865 60.2193387301, 25.2036771660 60.2265545420, 25.2043691889 60.2298960523, 25.2043691889 60.2298960523, 25.2266136056 60.2393674626, 25.2266136056 60.2393674626, 25.2230844540 60.2428390525, 25.2230844540 60.2428390525, 25.2248023093 60.2438323618, 25.2258758872 60.2444530911, 25.2270505786 60.2451322314, 25.2270505786 60.2451322314, 25.2370689042 60.2459915672, 25.2370689042 60.2459915672, 25.2408964086 60.2463196816, 25.2408445038 60.2472691873, 25.2407372084 60.2492315243, 25.2407372084 60.2492315243, 25.2408060752 60.2505507841, 25.2392714038 60.2531540489, 25.2385721914 60.2543399819, 25.2385721914 60.2543399819, 25.2374343525 60.2562696823, 25.2374343525 60.2562696823, 25.2335129913 60.2565511301, 25.2335129913 60.2565511301, 25.2303481708 60.2590112195, 25.2303481708 60.2590112195, 25.2292679359 60.2598497778, 25.2290810056 60.2599978961, 25.2288393445 60.2599238502, 25.2273236640 60.2611039310, 25.2276118305 60.2612320934, 25.2281923219 60.2613822970, 25.2281923219 60.2613822970, 25.2285563829 60.2613923932, 25.2297671338 60.2614124054, 25.2299236462 60.2614140257, 25.2302169257 60.2614316122, 25.2305936869 60.2614190839, 25.2306380418 60.2616912565, 25.2306380418 60.2616912565, 25.2306821714 60.2621561680, 25.2315590518 60.2625153501, 25.2325426626 60.2625496950, 25.2318691713 60.2653053431, 25.2318691713 60.2653053431, 25.2320600568 60.2656952243, 25.2320600568 60.2656952243, 25.2318605556 60.2672331788, 25.2344555877 60.2713977799, 25.2344555877 60.2713977799, 25.2348289816 60.2719615648, 25.2348289816 60.2719615648, 25.2375912320 60.2719212817, 25.2375912320 60.2719212817, 25.2396319109 60.2718891280, 25.2402875256 60.2718786836, 25.2405811153 60.2718689149, 25.2415946514 60.2718349365, 25.2432583334 60.2718356527, 25.2429669297 60.2722967277, 25.2456529138 60.2727168110, 25.2456529138 60.2727168110, 25.2508837337 60.2735177374, 25.2513143405 60.2741974964, 25.2517244924 60.2748683090, 25.2517414821 60.2748929390, 25.2517414821 60.2748929390, 25.2520934740 60.2754662156, 25.2520934740 60.2754662156, 25.2522721104 60.2757489557, 25.2466749774 60.2777166695, 25.2461046279 60.2776021605, 25.2441093535 60.2783390309, 25.2447651148 60.2789596541, 25.2470651612 60.2785100813, 25.2471008409 60.2813341727, 25.2471008409 60.2813341727, 25.2470943040 60.2818240954, 25.2473073945 60.2829824934, 25.2459524238 60.2837244625, 25.2459524238 60.2837244625, 25.2438464582 60.2848806795, 25.2438464582 60.2848806795, 25.2447575239 60.2853176195, 25.2447575239 60.2853176195, 25.2458095582 60.2858109363, 25.2458095582 60.2858109363, 25.2538699597 60.2896283743, 25.2512724587 60.2896410682, 25.2515482782 60.2901129050, 25.2512676670 60.2902712340, 25.2479130286 60.2921638773, 25.2479130286 60.2921638773, 25.2455373254 60.2935078698, 25.2455373254 60.2935078698, 25.2506825316 60.2944935576, 25.2527863561 60.2948962017, 25.2527863561 60.2948962017, 25.2544760337 60.2952225070, 25.2528730332 60.2974552057, 25.2528730332 60.2974552057, 25.2511308126 60.2972235426, 25.2494519532 60.2970010734, 25.2494519532 60.2970010734, 25.2467097393 60.2966392479, 25.2446877656 60.2963651932, 25.2434310812 60.2961846779, 25.2404003604 60.2956856206, 25.2404003604 60.2956856206, 25.2381597471 60.2953285636, 25.2381597471 60.2953285636, 25.2375049902 60.2955106026, 25.2375049902 60.2955106026, 25.2345973846 60.2963248379, 25.2345973846 60.2963248379, 25.2327768247 60.2968188021, 25.2327768247 60.2968188021, 25.2328182679 60.2969594840, 25.2315975290 60.2972822658, 25.2295031700 60.2978359999, 25.2270292480 60.2966129777, 25.2270292480 60.2966129777, 25.2290547749 60.2960456022, 25.2290547749 60.2960456022, 25.2284669783 60.2957696377, 25.2284669783 60.2957696377, 25.2251869192 60.2941789468, 25.2254850335 60.2938979287, 25.2254850335 60.2938979287, 25.2247108354 60.2936980801, 25.2247108354 60.2936980801, 25.2225356642 60.2920343021, 25.2206326201 60.2914277021, 25.2206326201 60.2914277021, 25.2140288001 60.2902299970, 25.2140288001 60.2902299970, 25.2128711057 60.2900231798, 25.2128711057 60.2900231798, 25.2072334489 60.2890236823, 25.2072334489 60.2890236823, 25.2053796485 60.2886908059, 25.2015286924 60.2880003944, 25.2048365076 60.2863871932, 25.2048365076 60.2863871932, 25.2020550570 60.2852765834, 25.1993629386 60.2842036962, 25.1967183079 60.2831502532, 25.1966623486 60.2828760505, 25.1964701426 60.2825634132, 25.1962993160 60.2821698501, 25.1962654997 60.2819594416, 25.1962654997 60.2819594416, 25.1959141044 60.2821789970, 25.1959141044 60.2821789970, 25.1955013059 60.2824368178, 25.1955013059 60.2824368178, 25.1921893566 60.2844788962, 25.1902601579 60.2856645177, 25.1902374726 60.2856784979, 25.1895717667 60.2840993462, 25.1894238728 60.2837792482, 25.1878022663 60.2802435154, 25.1878022663 60.2802435154, 25.1877355079 60.2800392242, 25.1876439843 60.2798787032, 25.1876439843 60.2798787032, 25.1840664791 60.2790585191, 25.1840664791 60.2790585191, 25.1824583062 60.2786899345, 25.1815833031 60.2784852449, 25.1815833031 60.2784852449, 25.1787460598 60.2778174144, 25.1787460598 60.2778174144, 25.1782404702 60.2778228219, 25.1777380431 60.2778961597, 25.1768322150 60.2779912340, 25.1756358257 60.2782022921, 25.1748195663 60.2783269773, 25.1737709886 60.2782558680, 25.1723746994 60.2764294135, 25.1714945840 60.2762379155, 25.1693175507 60.2757508228, 25.1693175507 60.2757508228, 25.1593008126 60.2735139907, 25.1564816251 60.2728831166, 25.1539008399 60.2723015018, 25.1499761529 60.2714283868, 25.1499761529 60.2714283868, 25.1425281052 60.2697777916, 25.1425281052 60.2697777916, 25.1420178002 60.2690969548, 25.1420054531 60.2687460977, 25.1419081717 60.2682925226, 25.1420931498 60.2680271358, 25.1422578703 60.2677751433, 25.1424335711 60.2674256485, 25.1423429063 60.2671672266, 25.1423752813 60.2669297357, 25.1424124863 60.2668562776, 25.1427996822 60.2660915148, 25.1431190406 60.2658139225, 25.1419614390 60.2655874722, 25.1419348826 60.2655822709, 25.1417359198 60.2648479755, 25.1417497956 60.2648127449, 25.1417600518 60.2647866830, 25.1417600518 60.2647866830, 25.1417683849 60.2647655466, 25.1417683849 60.2647655466, 25.1421556896 60.2638309938, 25.1423700237 60.2633185459, 25.1423795284 60.2632958200, 25.1423830657 60.2632894981, 25.1424048745 60.2632507175, 25.1424048745 60.2632507175, 25.1424062730 60.2632483720, 25.1424370575 60.2631976130, 25.1424618326 60.2631605119, 25.1425046161 60.2630964205, 25.1425232724 60.2630776370, 25.1426266905 60.2630102236, 25.1426625893 60.2629388316, 25.1426917296 60.2629052024, 25.1427174282 60.2628749327, 25.1427426753 60.2628452049, 25.1427702170 60.2628123888, 25.1428055815 60.2627702336, 25.1428837630 60.2626784901, 25.1429880167 60.2625755185, 25.1431488849 60.2624228490, 25.1432518274 60.2623185341, 25.1433307600 60.2622385506, 25.1434341713 60.2621337547, 25.1436007397 60.2619649440, 25.1439166685 60.2616136375, 25.1440654114 60.2614274597, 25.1441321830 60.2613148750, 25.1441321830 60.2613148750, 25.1443159883 60.2607498321, 25.1442633106 60.2606715383, 25.1442633106 60.2606715383, 25.1440126958 60.2602990200, 25.1440695733 60.2601912414, 25.1441534916 60.2600410646, 25.1442899656 60.2598001537, 25.1444829519 60.2594566004, 25.1445655655 60.2593095314, 25.1445655655 60.2593095314, 25.1446197185 60.2592402430, 25.1446958690 60.2591890031, 25.1449947573 60.2590708808, 25.1454304722 60.2589038209, 25.1460063189 60.2586802639, 25.1462016557 60.2586067679, 25.1464167767 60.2585262257, 25.1465486173 60.2584664984, 25.1465890784 60.2584412426, 25.1465890784 60.2584412426, 25.1466397015 60.2584096437, 25.1467197031 60.2583385165, 25.1467972461 60.2583003933, 25.1470471020 60.2582479124, 25.1473894138 60.2581974586, 25.1475183284 60.2581522412, 25.1476501992 60.2580939926, 25.1477309403 60.2580678143, 25.1478418978 60.2580566242, 25.1480248737 60.2580362756, 25.1480900351 60.2580222138, 25.1482048012 60.2579990435, 25.1483083923 60.2580147613, 25.1484161072 60.2581172686, 25.1485334297 60.2582006389, 25.1486057881 60.2582966213, 25.1487613152 60.2583635507, 25.1488857327 60.2583777139, 25.1489964744 60.2583185166, 25.1490940212 60.2581941740, 25.1493752788 60.2582049701, 25.1498476265 60.2582321509, 25.1500768301 60.2582126110, 25.1503256069 60.2582011046, 25.1504650613 60.2581990347, 25.1505347524 60.2581786586, 25.1506341298 60.2580917260, 25.1507288153 60.2580265091, 25.1507868515 60.2579885528, 25.1507594263 60.2579605092, 25.1506408141 60.2579229079, 25.1505642004 60.2578993027, 25.1505059196 60.2578664825, 25.1504936762 60.2578454708, 25.1504904617 60.2578289836, 25.1504932183 60.2578159286, 25.1505002187 60.2578074843, 25.1505365628 60.2577921456, 25.1505969392 60.2577745424, 25.1506107725 60.2577703571, 25.1506632121 60.2577587552, 25.1507241456 60.2577503119, 25.1508116287 60.2577475786, 25.1508240713 60.2577480362, 25.1508831896 60.2577501362, 25.1509405433 60.2577596644, 25.1510037232 60.2577772018, 25.1510405635 60.2577821689, 25.1510808014 60.2577800073, 25.1511165316 60.2577724456, 25.1511630743 60.2577518032, 25.1512072873 60.2577275546, 25.1512423513 60.2577035748, 25.1512913793 60.2576760538, 25.1513541769 60.2576481796, 25.1514194943 60.2576304167, 25.1514842062 60.2576236275, 25.1515948022 60.2576166277, 25.1516185046 60.2576162607, 25.1516773342 60.2576153472, 25.1517024269 60.2576123736, 25.1517024269 60.2576123736, 25.1517501796 60.2576067005, 25.1517684369 60.2576024761, 25.1518029772 60.2575944756, 25.1518560657 60.2575807416, 25.1519175856 60.2575612970, 25.1519738972 60.2575400585, 25.1520535433 60.2575003787, 25.1521012154 60.2574702312, 25.1521506416 60.2574248093, 25.1521880424 60.2573820144, 25.1522147025 60.2573388550, 25.1522359561 60.2572919367, 25.1522528055 60.2572440695, 25.1522619103 60.2571963503, 25.1522659276 60.2571189228, 25.1522709381 60.2570919089, 25.1522816120 60.2570672059, 25.1523386315 60.2570389697, 25.1523979106 60.2570235923, 25.1524639374 60.2570157495, 25.1525705174 60.2570106421, 25.1527373045 60.2569899159, 25.1527748004 60.2569811805, 25.1527974143 60.2568080591, 25.1529940243 60.2568316624, 25.1530831187 60.2568342007, 25.1531905260 60.2567879168, 25.1532976883 60.2567295451, 25.1534149875 60.2566656642, 25.1534544889 60.2566441484, 25.1535690888 60.2566247187, 25.1538401082 60.2566754791, 25.1539026543 60.2566826816, 25.1539724834 60.2566433471, 25.1540202870 60.2565477767, 25.1541371271 60.2564508610, 25.1542158668 60.2563855466, 25.1542448212 60.2563615292, 25.1542804488 60.2562992547, 25.1542959948 60.2562349469, 25.1544315267 60.2561032068, 25.1545692819 60.2558946111, 25.1545741905 60.2558873073, 25.1545833581 60.2558747883, 25.1545890615 60.2558670021, 25.1546090691 60.2558397050, 25.1546331257 60.2558068799, 25.1546678324 60.2557595122, 25.1546678324 60.2557595122, 25.1547068092 60.2557267550, 25.1546981421 60.2556704032, 25.1546671625 60.2556389367, 25.1545688046 60.2555696414, 25.1545688046 60.2555696414, 25.1544930994 60.2555266804, 25.1543955183 60.2554091373, 25.1543866589 60.2553472497, 25.1544486330 60.2552782753, 25.1544909331 60.2552311823, 25.1544976926 60.2552231178, 25.1545130573 60.2552014351, 25.1545570167 60.2551393836, 25.1546177305 60.2550945996, 25.1546858413 60.2550696579, 25.1548100494 60.2550586243, 25.1548472710 60.2550417052, 25.1549473852 60.2549146971, 25.1549925644 60.2548893801, 25.1550963975 60.2548685617, 25.1552235663 60.2548785213, 25.1553071582 60.2549059946, 25.1553833981 60.2549313413, 25.1555509580 60.2549564764, 25.1556794024 60.2549488071, 25.1557801572 60.2549036645, 25.1558773668 60.2548209467, 25.1559561682 60.2547206721, 25.1560293183 60.2546707078, 25.1562113869 60.2546150655, 25.1564057308 60.2545556715, 25.1565905282 60.2545067715, 25.1567630358 60.2545139838, 25.1568088449 60.2545142317, 25.1568698972 60.2544894755, 25.1569054190 60.2544586596, 25.1569124463 60.2544362232, 25.1569169219 60.2544212848, 25.1569242228 60.2543917018, 25.1569303558 60.2543669490, 25.1569451197 60.2543175107, 25.1569782351 60.2542702726, 25.1570371772 60.2542158630, 25.1571341126 60.2541434328, 25.1572937816 60.2540540032, 25.1573935672 60.2540198805, 25.1574877248 60.2539921161, 25.1575961227 60.2539416287, 25.1575961227 60.2539416287, 25.1576848714 60.2538793123, 25.1576848714 60.2538793123, 25.1570944123 60.2536093867, 25.1571279498 60.2533278569, 25.1571566999 60.2530714186, 25.1571827971 60.2527756465, 25.1571827971 60.2527756465, 25.1571848286 60.2527523655, 25.1572057627 60.2525139541, 25.1572057627 60.2525139541, 25.1572287301 60.2522523156, 25.1572481124 60.2521075745, 25.1572481124 60.2521075745, 25.1572924531 60.2517766582, 25.1572924531 60.2517766582, 25.1573868601 60.2510719292, 25.1583202636 60.2509837216, 25.1583202636 60.2509837216, 25.1586230753 60.2509550965, 25.1586230753 60.2509550965, 25.1589862958 60.2507243194, 25.1591071068 60.2507499169, 25.1591071068 60.2507499169, 25.1593890105 60.2503725254, 25.1596624730 60.2499925145, 25.1598426227 60.2497384503, 25.1595761258 60.2492131352, 25.1598742361 60.2488186192, 25.1598742361 60.2488186192, 25.1588117782 60.2485936447, 25.1586185555 60.2485414793, 25.1586185555 60.2485414793, 25.1583140622 60.2484579745, 25.1574132291 60.2480639932, 25.1563163092 60.2473985175, 25.1552780123 60.2467583184, 25.1546310358 60.2465769404, 25.1540914429 60.2464268458, 25.1537786352 60.2463113703, 25.1524634890 60.2459515628, 25.1522708696 60.2458988541, 25.1522597923 60.2458991202, 25.1520539694 60.2460601445, 25.1519742261 60.2461225323, 25.1519562504 60.2461365993, 25.1519562504 60.2461365993, 25.1507486531 60.2455324251, 25.1507335477 60.2455248735, 25.1501078508 60.2454242541, 25.1483420922 60.2455318506, 25.1475742553 60.2454641399, 25.1470430629 60.2454712801, 25.1451764126 60.2452853828, 25.1446727689 60.2450957371, 25.1431589640 60.2447193943, 25.1422437836 60.2441545044, 25.1416656565 60.2438810594, 25.1417034804 60.2436321049, 25.1418593339 60.2435868307, 25.1417062750 60.2434649449, 25.1417062750 60.2434649449, 25.1407274734 60.2426853954, 25.1401187569 60.2420230444, 25.1396971483 60.2415319007, 25.1389796702 60.2409115484, 25.1385712327 60.2406143407, 25.1380398407 60.2401362590, 25.1376141838 60.2396308286, 25.1373319544 60.2392945884, 25.1371016813 60.2388072899, 25.1371016813 60.2388072899, 25.1368617735 60.2384881689, 25.1367221035 60.2382179839, 25.1362960549 60.2376634772, 25.1362960549 60.2376634772, 25.1359002833 60.2373558579, 25.1358379485 60.2372310265, 25.1354617775 60.2372485704, 25.1350723158 60.2372190659, 25.1350723158 60.2372190659, 25.1295898536 60.2379580369, 25.1295946797 60.2382156856, 25.1057238444 60.2426087953, 25.0913671989 60.2451836245, 25.0824261539 60.2496988098, 25.0875151176 60.2593051577, 25.0863475019 60.2606236294, 25.0891034631 60.2677981405, 25.0880440571 60.2709036592, 25.0879921613 60.2712462058, 25.0766351528 60.2755501358, 25.0684846170 60.2750317605, 25.0623774578 60.2754352916, 25.0615552256 60.2763742543, 25.0566145315 60.2758051658, 25.0533810202 60.2760149963, 25.0506415789 60.2783192340, 25.0491532382 60.2781082640, 25.0470711871 60.2777081973, 25.0460323075 60.2788704129, 25.0457248384 60.2784163900, 25.0451487285 60.2785423898, 25.0451317458 60.2792259885, 25.0450424335 60.2793435144, 25.0441702002 60.2800128934, 25.0437232666 60.2798759859, 25.0426496585 60.2811501943, 25.0424796076 60.2810998262, 25.0422528155 60.2815088750, 25.0433966845 60.2819036428, 25.0430586571 60.2823488330, 25.0422111304 60.2830680415, 25.0422488157 60.2831595885, 25.0415453713 60.2832873861, 25.0406391225 60.2841402443, 25.0408678198 60.2847354888, 25.0378733452 60.2879755154, 25.0375862637 60.2876271313, 25.0371743076 60.2874469609, 25.0367731425 60.2873703657, 25.0357304440 60.2873631711, 25.0352521129 60.2872038563, 25.0344708038 60.2863984826, 25.0344235501 60.2861160462, 25.0345557620 60.2855647549, 25.0344810599 60.2853627227, 25.0342862805 60.2852205108, 25.0338046013 60.2850371876, 25.0335453742 60.2849799932, 25.0328283774 60.2849622454, 25.0324493369 60.2850314612, 25.0313543583 60.2853975235, 25.0302213575 60.2854673688, 25.0290241599 60.2857140872, 25.0273149259 60.2863860625, 25.0268466343 60.2872883761, 25.0265697124 60.2874783920, 25.0259680656 60.2876634731, 25.0247327723 60.2878542384, 25.0240943367 60.2880046746, 25.0236428238 60.2881887560, 25.0230244493 60.2886173542, 25.0225190234 60.2888820686, 25.0216780117 60.2891982450, 25.0208963291 60.2893171654, 25.0197175423 60.2892156765, 25.0184871638 60.2888668987, 25.0165269978 60.2889813575, 25.0155195543 60.2888398164, 25.0145491731 60.2885426672, 25.0134077883 60.2877848502, 25.0120759766 60.2873487184, 25.0116428585 60.2873543187, 25.0109970910 60.2876888295, 25.0105456025 60.2877936813, 25.0095197782 60.2878275274, 25.0087549269 60.2877723923, 25.0084290983 60.2876254472, 25.0079272371 60.2869301049, 25.0072760786 60.2866198501, 25.0057103132 60.2860758894, 25.0054636917 60.2860964621, 25.0046361387 60.2863397694, 25.0039517641 60.2864444572, 25.0014720000 60.2866244840, 25.0006516700 60.2865468926, 25.0001381888 60.2863170172, 24.9999819319 60.2861415134, 24.9996942247 60.2848019381, 24.9994387836 60.2845000009, 24.9978748074 60.2831629498, 24.9975401502 60.2827899829, 24.9958414804 60.2814952711, 24.9956341267 60.2813970277, 24.9951586392 60.2812932185, 24.9939932766 60.2813193233, 24.9933849130 60.2812127192, 24.9910979319 60.2801977688, 24.9902349674 60.2798825436, 24.9897343444 60.2797655942, 24.9888026795 60.2797035785, 24.9874840684 60.2797120506, 24.9859391131 60.2798331722, 24.9852947415 60.2797775543, 24.9848979266 60.2796880095, 24.9845401718 60.2796682685, 24.9838960726 60.2797151958, 24.9835611551 60.2796484395, 24.9834206960 60.2794311911, 24.9826019182 60.2791315259, 24.9822805152 60.2789160069, 24.9821164060 60.2786769848, 24.9820303047 60.2780722220, 24.9817939683 60.2779066828, 24.9807955092 60.2774211031, 24.9807352558 60.2771648404, 24.9807954552 60.2765459432, 24.9807004056 60.2761849871, 24.9807661624 60.2760083553, 24.9804297429 60.2755961439, 24.9801499350 60.2754048643, 24.9795613798 60.2751683497, 24.9791174365 60.2748248149, 24.9779617398 60.2742650657, 24.9774894704 60.2739559558, 24.9771872955 60.2732501787, 24.9771947433 60.2719682519, 24.9770614821 60.2715762475, 24.9762350496 60.2708156569, 24.9755181538 60.2699216373, 24.9755162315 60.2696383658, 24.9757517077 60.2693241308, 24.9762481055 60.2689736873, 24.9773293339 60.2685564956, 24.9775685781 60.2684038854, 24.9779982386 60.2680560011, 24.9780699493 60.2677477251, 24.9773688766 60.2673218602, 24.9761838139 60.2668639234, 24.9757887523 60.2665625908, 24.9755026095 60.2661163591, 24.9755289284 60.2658091875, 24.9758054744 60.2652740703, 24.9756166562 60.2649746698, 24.9752886868 60.2648373567, 24.9737604754 60.2645866569, 24.9731957145 60.2644422940, 24.9714054638 60.2645827835, 24.9706686833 60.2647341246, 24.9701947216 60.2649097717, 24.9688328119 60.2656225527, 24.9672979302 60.2660343902, 24.9663288074 60.2661899248, 24.9658659408 60.2663078176, 24.9636664973 60.2669923754, 24.9627567941 60.2673297240, 24.9615545258 60.2678941571, 24.9607667047 60.2680978474, 24.9602861407 60.2683250370, 24.9599949302 60.2687257203, 24.9600048307 60.2692920004, 24.9598130961 60.2696115949, 24.9593864234 60.2699535966, 24.9573480610 60.2712046914, 24.9565910990 60.2718927478, 24.9558873469 60.2727886116, 24.9557731338 60.2732697985, 24.9567521955 60.2755486018, 24.9566704296 60.2759487398, 24.9565142212 60.2761549974, 24.9562528327 60.2763427300, 24.9554353788 60.2766460145, 24.9541012243 60.2767816202, 24.9535437371 60.2769466936, 24.9531716942 60.2771759356, 24.9530456220 60.2773360573, 24.9528804552 60.2780130697, 24.9526275820 60.2781559820, 24.9522606145 60.2782363787, 24.9515277059 60.2782971591, 24.9495674586 60.2781273263, 24.9489302620 60.2781984139, 24.9480935940 60.2784354396, 24.9476445580 60.2785102369, 24.9463976786 60.2783948906, 24.9456424629 60.2784032200, 24.9450885608 60.2782778240, 24.9435051586 60.2777689608, 24.9419801293 60.2773843078, 24.9401027773 60.2767391626, 24.9368320353 60.2761210424, 24.9351254324 60.2756545235, 24.9337691112 60.2754693177, 24.9319484650 60.2750605798, 24.9305365907 60.2749627314, 24.9283566883 60.2750724580, 24.9268376759 60.2749218209, 24.9245718914 60.2748130857, 24.9241283701 60.2746647348, 24.9231171132 60.2741668034, 24.9212877726 60.2736219218, 24.9205213485 60.2731082484, 24.9196376046 60.2730051227, 24.9179567449 60.2727179709, 24.9150088266 60.2724361866, 24.9125134536 60.2720170550, 24.9117582307 60.2718211490, 24.9112506640 60.2716295843, 24.9108034351 60.2713986905, 24.9104362919 60.2710322710, 24.9098632587 60.2708353248, 24.9092318962 60.2708033050, 24.9081238445 60.2708547128, 24.9074820351 60.2708170432, 24.9055896361 60.2702356704, 24.9040178450 60.2698787180, 24.9002871137 60.2692256990, 24.8994380693 60.2689760551, 24.8977760277 60.2686769103, 24.8953369992 60.2685131305, 24.8928141418 60.2685312414, 24.8924617903 60.2671474225, 24.8913970646 60.2663929307, 24.8772433199 60.2603088792, 24.8724066702 60.2541425297, 24.8687591174 60.2532681627, 24.8678652385 60.2523820666, 24.8676213044 60.2525036928, 24.8674702840 60.2528223807, 24.8670528742 60.2531809072, 24.8666142014 60.2532797655, 24.8659119052 60.2532763202, 24.8655213473 60.2533228591, 24.8651958654 60.2534947057, 24.8646209800 60.2536934514, 24.8642991611 60.2539151405, 24.8624827514 60.2531432670, 24.8578061612 60.2536074800, 24.8386352635 60.2590970646, 24.8377041135 60.2591052321, 24.8368376488 60.2590288370, 24.8354585949 60.2587726225, 24.8347238484 60.2584974126, 24.8336772168 60.2546686008, 24.8313928073 60.2540546224, 24.8313928073 60.2540546224, 24.8369319972 60.2367628952, 24.8359523755 60.2366830711, 24.8380857578 60.2291044914, 24.8381105903 60.2290309127, 24.8399623591 60.2291398073, 24.8419031503 60.2211997740, 24.8433964917 60.2217372832, 24.8451982113 60.2227703569, 24.8460307474 60.2231513833, 24.8470674867 60.2238456323, 24.8491386188 60.2246872726, 24.8501374009 60.2249007797, 24.8513653483 60.2249711479, 24.8478547950 60.2215939827, 24.8478108575 60.2210120066, 24.8476066341 60.2204664408, 24.8480090657 60.2193879578, 24.8480521233 60.2185991088, 24.8460811021 60.2153731340, 24.8459866830 60.2140375458, 24.8459866830 60.2140375458, 24.8459599359 60.2129923284, 24.8468623524 60.2037425028, 24.8427867127 60.1957593526, 24.8441308928 60.1732556126, 24.8444022759 60.1655835053, 24.8415651447 60.1590370418, 24.8409339528 60.1570275035, 24.8407466002 60.1551954695, 24.8408629369 60.1508698043, 24.8394252672 60.1503320658, 24.8371432593 60.1382218245, 24.8371432593 60.1382218245, 24.8356620615 60.1304130764, 24.7827955220 60.0999594001, 24.8419246762 60.0343976598, 24.8419246762 60.0343976598, 24.8440946385 60.0319869712, 24.8440946385 60.0319869712, 24.9422920760 59.9224888308))";
     	String wktLiteralDatatype = "http://www.opengis.net/ont/geosparql#wktLiteral";
     	
     	// Register custom spatial functions for Jena ARQ
@@ -59,7 +61,7 @@ public class SpatialFunctionsExample {
 
     	Resource helsinkiAsPolygon = model.createResource("http://example.fi/paikat/p2");
     	model.add(model.createStatement(helsinkiAsPolygon, RDFS.label, "Helsinki (polygoni)"));
-    	model.add(model.createStatement(helsinkiAsPolygon, model.createProperty("http://www.w3.org/2003/01/geo/wgs84_pos#geometry"), model.createTypedLiteral(polygonHelsinkiWKT, wktLiteralDatatype)));    	
+    	model.add(model.createStatement(helsinkiAsPolygon, model.createProperty("http://www.w3.org/2003/01/geo/wgs84_pos#geometry"), model.createTypedLiteral(POLYGON_HELSINKI_WKT, wktLiteralDatatype)));    	
     	
         spatialDataset.commit();
         spatialDataset.end();
@@ -68,15 +70,15 @@ public class SpatialFunctionsExample {
         //String queryString = "SELECT * WHERE { ?s <http://jena.apache.org/spatial#withinBox> (59 24 61 26) ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";
     	//String queryString = "SELECT * WHERE { ?s <http://jena.apache.org/spatial#withinBox> (0 0 0 0) ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";
         
-        String queryString = "SELECT * WHERE { ?s <http://www.seco.tkk.fi/spatial#withinPolygon> ('"+polygonHelsinki+"' ' ' ',') ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";
-        //String queryString = "SELECT * WHERE { ?s <http://www.seco.tkk.fi/spatial#withinPolygon> '"+polygonHelsinkiWKT+"'^^<"+wktLiteralDatatype+"> ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";
-        //String queryString = "SELECT * WHERE { <http://ldf.fi/pnr/P_10342733> <http://www.seco.tkk.fi/spatial#withinPolygon> ('"+polygonHelsinki+"' ' ' ',') ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";
-        //String queryString = "SELECT * WHERE { <http://example.fi/paikat/p1> <http://www.seco.tkk.fi/spatial#withinPolygon> ('"+polygonHelsinki+"' ' ' ',') ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";
-        //String queryString = "SELECT * WHERE { ?s <http://www.seco.tkk.fi/spatial#withinPolygon> ('"+polygonOulu+"' ' ' ',') ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";
-        //String queryString = "SELECT * WHERE { <http://ldf.fi/pnr/P_10342733> <http://www.seco.tkk.fi/spatial#withinPolygon> ('"+polygonOulu+"' ' ' ',') ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";
+        String queryString = "SELECT * WHERE { ?s <http://www.seco.tkk.fi/spatial#withinPolygon> ('"+POLYGON_HELSINKI+"' ' ' ',') ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";
+        //String queryString = "SELECT * WHERE { ?s <http://www.seco.tkk.fi/spatial#withinPolygon> '"+POLYGON_HELSINKI_WKT+"'^^<"+wktLiteralDatatype+"> ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";
+        //String queryString = "SELECT * WHERE { <http://ldf.fi/pnr/P_10342733> <http://www.seco.tkk.fi/spatial#withinPolygon> ('"+POLYGON_HELSINKI+"' ' ' ',') ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";
+        //String queryString = "SELECT * WHERE { <http://example.fi/paikat/p1> <http://www.seco.tkk.fi/spatial#withinPolygon> ('"+POLYGON_HELSINKI+"' ' ' ',') ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";
+        //String queryString = "SELECT * WHERE { ?s <http://www.seco.tkk.fi/spatial#withinPolygon> ('"+POLYGON_OULU+"' ' ' ',') ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";
+        //String queryString = "SELECT * WHERE { <http://ldf.fi/pnr/P_10342733> <http://www.seco.tkk.fi/spatial#withinPolygon> ('"+POLYGON_OULU+"' ' ' ',') ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";
 
-        // these do not work in a local ARQ query as the ?polygon variable does not get bound before the evaluation of
-        // the seco-spatial:withinPolygon property funtion:
+        // with a variable polygon bound by a preceding pattern, the polygons are joined with the points in one pass
+        // (see fi.seco.spatial.arq.WithinPolygonJoinPF, also available as seco-spatial:withinPolygonJoin):
         //String queryString = "SELECT * WHERE { SERVICE <http://ldf.fi/hispo/sparql> { ?kunta <http://www.yso.fi/onto/sapo:hasPolygon> ?polygon . } ?s <http://www.seco.tkk.fi/spatial#withinPolygon> (?polygon ' ' ',') ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";  
         //String queryString = "SELECT * WHERE { SERVICE <http://ldf.fi/hispo/sparql> { <http://www.yso.fi/onto/sapo/Helsinki(2009-)> <http://www.yso.fi/onto/sapo:hasPolygon> ?polygon . } ?s <http://www.seco.tkk.fi/spatial#withinPolygon> (?polygon ' ' ',') ; <http://www.w3.org/2000/01/rdf-schema#label> ?label . }";
         
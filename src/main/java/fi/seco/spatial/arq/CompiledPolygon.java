@@ -0,0 +1,171 @@
+package fi.seco.spatial.arq;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.spatial4j.core.context.jts.JtsSpatialContext;
+import com.spatial4j.core.shape.Shape;
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.CoordinateSequence;
+import com.vividsolutions.jts.geom.CoordinateSequenceFilter;
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.geom.prep.PreparedGeometry;
+import com.vividsolutions.jts.geom.prep.PreparedGeometryFactory;
+import com.vividsolutions.jts.simplify.TopologyPreservingSimplifier;
+
+/**
+ * A polygon (or multipolygon, possibly with holes) parsed from a seco-spatial:withinPolygon
+ * literal, together with its JTS PreparedGeometry and envelope.
+ *
+ * With a simplification tolerance, the polygon is also simplified within the tolerance, and
+ * points farther than the tolerance from the boundary of the simplified polygon are accepted
+ * or rejected with the simplified polygon only. The exact polygon is tested near the boundary.
+ *
+ * Coordinates are stored as (latitude, longitude), i.e. x is the latitude.
+ * Instances are immutable (apart from the coverings computed on demand) and can be
+ * shared between queries and threads (see PolygonCache).
+ */
+public class CompiledPolygon {
+	static final GeometryFactory geometryFactory = new GeometryFactory();
+
+	// the buffers of the simplified polygon approximate arcs with chords, so widen them a bit
+	private static final double BUFFER_FACTOR = 1.05;
+
+	private final Geometry polygon;
+	private final PreparedGeometry prepared;
+	private final Envelope envelope;
+	private final PreparedGeometry inner;
+	private final PreparedGeometry outer;
+	private final AtomicBoolean used = new AtomicBoolean();
+	private final PolygonCovering[] coverings = new PolygonCovering[PolygonCovering.MAX_DEPTH+1];
+	private JtsSpatialContext shapeContext;
+	private Shape shape;
+	private String normalizedText;
+
+	public CompiledPolygon(Geometry polygon) {
+		this(polygon, 0);
+	}
+
+	public CompiledPolygon(Geometry polygon, double tolerance) {
+		this.polygon = polygon;
+		this.prepared = PreparedGeometryFactory.prepare(polygon);
+		this.envelope = polygon.getEnvelopeInternal();
+		if (tolerance > 0) {
+			Geometry simplified = TopologyPreservingSimplifier.simplify(polygon, tolerance);
+			this.inner = PreparedGeometryFactory.prepare(simplified.buffer(-tolerance * BUFFER_FACTOR));
+			this.outer = PreparedGeometryFactory.prepare(simplified.buffer(tolerance * BUFFER_FACTOR));
+		} else {
+			this.inner = null;
+			this.outer = null;
+		}
+	}
+
+	/**
+	 * Parses a polygon literal, see IsWithinPolygonPF and PolygonParser for the supported formats.
+	 */
+	public static CompiledPolygon parse(String polygonStr, String delimiterPoint,
+			String delimiterLatLong, boolean latLong) {
+		return parse(polygonStr, delimiterPoint, delimiterLatLong, latLong, 0);
+	}
+
+	/**
+	 * Parses a polygon literal, simplifying it within the tolerance (in degrees, 0 for none)
+	 * for the coarse test of the points far from the boundary.
+	 */
+	public static CompiledPolygon parse(String polygonStr, String delimiterPoint,
+			String delimiterLatLong, boolean latLong, double tolerance) {
+		return new CompiledPolygon(PolygonParser.parse(polygonStr, delimiterPoint, delimiterLatLong, latLong, geometryFactory), tolerance);
+	}
+
+	/**
+	 * Returns the Polygon or MultiPolygon.
+	 */
+	public Geometry getPolygon() {
+		return polygon;
+	}
+
+	public PreparedGeometry getPreparedGeometry() {
+		return prepared;
+	}
+
+	public Envelope getEnvelope() {
+		return envelope;
+	}
+
+	/**
+	 * Returns the quadtree covering of the polygon with the given depth, computed on first use.
+	 */
+	public PolygonCovering getCovering(int depth) {
+		depth = Math.max(0, Math.min(depth, PolygonCovering.MAX_DEPTH));
+		synchronized (coverings) {
+			if (coverings[depth] == null)
+				coverings[depth] = PolygonCovering.compute(this, depth);
+			return coverings[depth];
+		}
+	}
+
+	/**
+	 * Returns the polygon as a spatial4j shape of the given JTS spatial context (with x as the
+	 * longitude, as in the spatial index), created on first use.
+	 */
+	public synchronized Shape getShape(JtsSpatialContext ctx) {
+		if (shapeContext != ctx) {
+			Geometry longLat = (Geometry) polygon.clone();
+			longLat.apply(new CoordinateSequenceFilter() {
+				@Override
+				public void filter(CoordinateSequence seq, int i) {
+					double latD = seq.getOrdinate(i, 0);
+					seq.setOrdinate(i, 0, seq.getOrdinate(i, 1));
+					seq.setOrdinate(i, 1, latD);
+				}
+
+				@Override
+				public boolean isDone() {
+					return false;
+				}
+
+				@Override
+				public boolean isGeometryChanged() {
+					return true;
+				}
+			});
+			shape = ctx.makeShape(longLat);
+			shapeContext = ctx;
+		}
+		return shape;
+	}
+
+	/**
+	 * Returns the WKT of the normalized polygon, the same for equal polygons written with a different
+	 * start point, orientation or format (see ResultCache), computed on first use.
+	 */
+	public synchronized String getNormalizedText() {
+		if (normalizedText == null)
+			normalizedText = polygon.norm().toText();
+		return normalizedText;
+	}
+
+	/**
+	 * Returns true the first time it is called, i.e. when the polygon was just parsed
+	 * rather than found in the PolygonCache.
+	 */
+	boolean markUsed() {
+		return used.compareAndSet(false, true);
+	}
+
+	public boolean contains(double latD, double longD) {
+		// cheap envelope rejection before the indexed point-in-polygon test
+		if (!envelope.contains(latD, longD))
+			return false;
+		Point point = geometryFactory.createPoint(new Coordinate(latD, longD));
+		if (inner != null) {
+			if (inner.contains(point))
+				return true;
+			if (!outer.contains(point))
+				return false;
+		}
+		return prepared.contains(point);
+	}
+}
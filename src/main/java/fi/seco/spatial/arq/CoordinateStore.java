@@ -0,0 +1,612 @@
+package fi.seco.spatial.arq;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphEvents;
+import org.apache.jena.graph.GraphListener;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.spatial.EntityDefinition;
+import org.apache.jena.sparql.core.GraphView;
+import org.apache.jena.sparql.engine.ExecutionContext;
+import org.apache.jena.sparql.util.Context;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.lucene.store.Directory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory side index of the WGS84 coordinates (geo:lat, geo:long) of the subjects of a graph.
+ *
+ * Each subject gets a compact int id, and the coordinates are kept in packed double arrays
+ * indexed by the id, so seco-spatial:withinPolygon can fetch the coordinates of a candidate
+ * without touching the triple store.
+ *
+ * Usage:
+ *
+ *  CoordinateStore store = CoordinateStore.build(graph).listenTo(graph);
+ *  store.register(spatialDataset.getContext());
+ *
+ * The store is kept in sync with the graph it listens to. Changes made through other graph
+ * objects (or directly to the DatasetGraph, e.g. SPARQL Update and bulk loads on TDB) are not
+ * seen, nor are aborted transactions rolled back. So the store also records the version
+ * (commit generation) of the Lucene spatial index it reflects, and get(ExecutionContext)
+ * rebuilds it from the graph (and saves it again, if it was opened from a file) once the index
+ * has been committed since.
+ * The store is used only by queries whose active graph is the graph it was built from.
+ * The store can be persisted with save() (e.g. next to the Lucene directory, see open())
+ * and loaded again from the memory-mapped file with load().
+ */
+public class CoordinateStore implements GraphListener {
+	public static final String DEFAULT_FILE_NAME = "coordinates.dat";
+
+	private static final int MAGIC = 0x53435332; // "SCS2"
+	private static final Node LAT = EntityDefinition.geo_latitude.asNode();
+	private static final Node LONG = EntityDefinition.geo_longitude.asNode();
+	private static final Logger log = LoggerFactory.getLogger(CoordinateStore.class);
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// id -> subject and coordinates, NaN for a missing coordinate
+	private Node[] nodes = new Node[1024];
+	private double[] lats = new double[1024];
+	private double[] longs = new double[1024];
+	private int size = 0;
+
+	// open addressing hash table from subject to id+1, 0 for an empty slot
+	private int[] table = new int[2048];
+
+	// commit generation of the spatial index the coordinates are up to date with
+	private volatile long version = SpatialIndexVersion.UNKNOWN;
+	// the graph the store is built from and the file it is persisted in (if any), for rebuilding
+	private Graph source = null;
+	private File file = null;
+
+	public CoordinateStore() {
+	}
+
+	/**
+	 * Builds a store from the geo:lat and geo:long triples of the graph. Its version is that of the
+	 * spatial index of the context it is registered in (see register()).
+	 */
+	public static CoordinateStore build(Graph g) {
+		CoordinateStore store = new CoordinateStore();
+		store.addAll(g);
+		store.source = g;
+		return store;
+	}
+
+	/**
+	 * Loads the store persisted in the given Lucene spatial index directory if there is one and
+	 * it was saved at the current commit of the index, otherwise builds it from the graph and
+	 * persists it there. The store listens to the graph.
+	 */
+	public static CoordinateStore open(File dir, Graph g) throws IOException {
+		File file = new File(dir, DEFAULT_FILE_NAME);
+		long version = SpatialIndexVersion.getGeneration(dir);
+		CoordinateStore store = null;
+		if (file.exists() && version != SpatialIndexVersion.UNKNOWN) {
+			try {
+				store = load(file);
+			} catch (IOException e) {
+				log.warn("Could not load " + file + ", rebuilding it: " + e.getMessage());
+			} catch (RuntimeException e) {
+				// e.g. BufferUnderflowException for a truncated file
+				log.warn("Could not load " + file + " (corrupt?), rebuilding it: " + e);
+			}
+			if (store != null && store.version != version) {
+				log.info(file + " is out of date with the spatial index, rebuilding it");
+				store = null;
+			}
+		}
+		if (store == null) {
+			store = build(g);
+			store.version = version;
+			store.save(file);
+		}
+		store.source = g;
+		store.file = file;
+		return store.listenTo(g);
+	}
+
+	/**
+	 * Returns the store registered in the context, or null.
+	 */
+	public static CoordinateStore get(Context cxt) {
+		if (cxt == null)
+			return null;
+		Object o = cxt.get(SpatialFunctions.symCoordinateStore);
+		return o instanceof CoordinateStore ? (CoordinateStore) o : null;
+	}
+
+	/**
+	 * Returns the store registered in the context of the query, or null. Null is also returned if
+	 * the store was built from another graph than the active graph of the query (e.g. inside
+	 * GRAPH &lt;g&gt;), so the coordinates are then fetched from the active graph. If the spatial index
+	 * has been committed since the store was built, the store is first rebuilt from its graph (and
+	 * saved again), or null is returned if it has no graph to rebuild it from. The version of the
+	 * index is read once per query execution (see SpatialIndexVersion).
+	 */
+	public static CoordinateStore get(ExecutionContext execCxt) {
+		CoordinateStore store = get(execCxt.getContext());
+		if (store == null || !store.isBuiltFrom(execCxt.getActiveGraph()))
+			return null;
+		long version = SpatialIndexVersion.get(execCxt);
+		if (version == SpatialIndexVersion.UNKNOWN || version == store.version)
+			return store;
+		return store.sync(version) ? store : null;
+	}
+
+	/**
+	 * Returns true if the store holds the coordinates of the graph: it was built from the graph (or
+	 * a view of the same graph of the same dataset), or it was loaded from a file without a graph.
+	 */
+	boolean isBuiltFrom(Graph g) {
+		if (source == null || source == g)
+			return true;
+		// graph views (e.g. of TDB) are created per call, so they are compared by their dataset and name
+		if (source instanceof GraphView && g instanceof GraphView)
+			return ((GraphView) source).getDataset() == ((GraphView) g).getDataset()
+					&& Objects.equals(((GraphView) source).getGraphName(), ((GraphView) g).getGraphName());
+		return false;
+	}
+
+	// rebuilds the store at the given version of the spatial index, returns false if it cannot be rebuilt
+	private synchronized boolean sync(long version) {
+		if (this.version == version)
+			return true;
+		if (source == null) {
+			log.warn("The coordinate store is out of date with the spatial index and it has no graph to rebuild it from, "
+					+ "fetching the coordinates from the triple store");
+			return false;
+		}
+		rebuild(source);
+		this.version = version;
+		if (file != null) {
+			try {
+				save(file);
+			} catch (IOException e) {
+				log.warn("Could not save " + file + ": " + e.getMessage());
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the commit generation of the spatial index the store is up to date with, or -1 if unknown.
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Registers the store in the context (e.g. the context of the spatial dataset),
+	 * so that the property functions use it. A store built from the graph (and not yet
+	 * versioned) takes the current commit generation of the Lucene spatial index of the
+	 * context as its version, so it is not rebuilt by the first query.
+	 */
+	public CoordinateStore register(Context cxt) {
+		if (version == SpatialIndexVersion.UNKNOWN) {
+			Directory dir = SpatialIndexVersion.getDirectory(cxt);
+			if (dir != null)
+				version = SpatialIndexVersion.getGeneration(dir);
+		}
+		cxt.set(SpatialFunctions.symCoordinateStore, this);
+		return this;
+	}
+
+	/**
+	 * Keeps the store in sync with the changes made to the graph.
+	 */
+	public CoordinateStore listenTo(Graph g) {
+		g.getEventManager().register(this);
+		return this;
+	}
+
+	public void addAll(Graph g) {
+		lock.writeLock().lock();
+		try {
+			addAll(g.find(Node.ANY, LAT, Node.ANY));
+			addAll(g.find(Node.ANY, LONG, Node.ANY));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void addAll(ExtendedIterator<Triple> iter) {
+		try {
+			while (iter.hasNext())
+				set(iter.next(), false);
+		} finally {
+			iter.close();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return size;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the id of the subject, or -1 if the store has no coordinates for it.
+	 */
+	public int getId(Node n) {
+		lock.readLock().lock();
+		try {
+			return find(n);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Copies the latitude and longitude of the subject into latLong.
+	 * Returns false if the store does not have both coordinates of the subject.
+	 */
+	public boolean getCoordinates(Node n, double[] latLong) {
+		lock.readLock().lock();
+		try {
+			int id = find(n);
+			if (id < 0)
+				return false;
+			double latD = lats[id];
+			double longD = longs[id];
+			if (Double.isNaN(latD) || Double.isNaN(longD))
+				return false;
+			latLong[0] = latD;
+			latLong[1] = longD;
+			return true;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Copies the latitudes and longitudes of the first n subjects into latitudes and longitudes
+	 * under a single lock, NaN for the subjects the store does not have both coordinates of.
+	 */
+	public void getCoordinates(Node[] subjects, int n, double[] latitudes, double[] longitudes) {
+		lock.readLock().lock();
+		try {
+			for (int i = 0; i < n; i++) {
+				int id = find(subjects[i]);
+				double latD = id < 0 ? Double.NaN : lats[id];
+				double longD = id < 0 ? Double.NaN : longs[id];
+				if (Double.isNaN(latD) || Double.isNaN(longD))
+					latD = longD = Double.NaN;
+				latitudes[i] = latD;
+				longitudes[i] = longD;
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the subject with the given id (0 &lt;= id &lt; size()).
+	 */
+	public Node getNode(int id) {
+		lock.readLock().lock();
+		try {
+			return nodes[id];
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Copies the latitude and longitude of the subject with the given id into latLong.
+	 * Returns false if the store does not have both coordinates of the subject.
+	 */
+	public boolean getCoordinates(int id, double[] latLong) {
+		lock.readLock().lock();
+		try {
+			double latD = lats[id];
+			double longD = longs[id];
+			if (Double.isNaN(latD) || Double.isNaN(longD))
+				return false;
+			latLong[0] = latD;
+			latLong[1] = longD;
+			return true;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Writes the store into a file that can be loaded (memory-mapped) with load().
+	 * Only subjects that are URIs are persisted. The store is written into a temporary file
+	 * in the same directory that then replaces the file atomically, so a crash or another
+	 * process saving at the same time never leaves a partly written file behind.
+	 */
+	public void save(File file) throws IOException {
+		File dir = file.getAbsoluteFile().getParentFile();
+		File tmp = File.createTempFile(file.getName() + ".", ".tmp", dir);
+		try {
+			write(tmp);
+			try {
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			if (tmp.exists() && !tmp.delete())
+				log.warn("Could not delete " + tmp);
+		}
+	}
+
+	private void write(File file) throws IOException {
+		lock.readLock().lock();
+		try {
+			int[] ids = new int[size];
+			int count = 0;
+			for (int id = 0; id < size; id++)
+				if (nodes[id].isURI())
+					ids[count++] = id;
+			FileOutputStream fos = new FileOutputStream(file);
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos, 1 << 16));
+			try {
+				out.writeInt(MAGIC);
+				out.writeLong(version);
+				out.writeInt(count);
+				for (int i = 0; i < count; i++)
+					out.writeDouble(lats[ids[i]]);
+				for (int i = 0; i < count; i++)
+					out.writeDouble(longs[ids[i]]);
+				for (int i = 0; i < count; i++) {
+					byte[] uri = nodes[ids[i]].getURI().getBytes(StandardCharsets.UTF_8);
+					out.writeInt(uri.length);
+					out.write(uri);
+				}
+				out.flush();
+				fos.getFD().sync();
+			} finally {
+				out.close();
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Loads a store written with save(). Throws IOException (or a RuntimeException such as
+	 * BufferUnderflowException) if the file is not a valid store file.
+	 */
+	public static CoordinateStore load(File file) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buf.getInt() != MAGIC)
+				throw new IOException("Not a coordinate store file (or an old version of it): " + file);
+			long version = buf.getLong();
+			int count = buf.getInt();
+			if (count < 0 || (long) count * 16 > buf.remaining())
+				throw new IOException("Corrupt coordinate store file: " + file);
+			CoordinateStore store = new CoordinateStore();
+			store.version = version;
+			store.ensureCapacity(count);
+			ByteBuffer doubles = buf.slice();
+			doubles.asDoubleBuffer().get(store.lats, 0, count);
+			doubles.position(count * 8);
+			doubles.slice().asDoubleBuffer().get(store.longs, 0, count);
+			buf.position(buf.position() + count * 16);
+			for (int id = 0; id < count; id++) {
+				byte[] uri = new byte[buf.getInt()];
+				buf.get(uri);
+				store.nodes[id] = NodeFactory.createURI(new String(uri, StandardCharsets.UTF_8));
+				store.size++;
+				store.insert(store.nodes[id], id);
+			}
+			return store;
+		} finally {
+			raf.close();
+		}
+	}
+
+	// GraphListener
+
+	@Override
+	public void notifyAddTriple(Graph g, Triple t) {
+		update(t, false);
+	}
+
+	@Override
+	public void notifyAddArray(Graph g, Triple[] triples) {
+		update(Arrays.asList(triples).iterator(), false);
+	}
+
+	@Override
+	public void notifyAddList(Graph g, List<Triple> triples) {
+		update(triples.iterator(), false);
+	}
+
+	@Override
+	public void notifyAddIterator(Graph g, Iterator<Triple> it) {
+		update(it, false);
+	}
+
+	@Override
+	public void notifyAddGraph(Graph g, Graph added) {
+		addAll(added);
+	}
+
+	@Override
+	public void notifyDeleteTriple(Graph g, Triple t) {
+		update(t, true);
+	}
+
+	@Override
+	public void notifyDeleteList(Graph g, List<Triple> triples) {
+		update(triples.iterator(), true);
+	}
+
+	@Override
+	public void notifyDeleteArray(Graph g, Triple[] triples) {
+		update(Arrays.asList(triples).iterator(), true);
+	}
+
+	@Override
+	public void notifyDeleteIterator(Graph g, Iterator<Triple> it) {
+		update(it, true);
+	}
+
+	@Override
+	public void notifyDeleteGraph(Graph g, Graph removed) {
+		lock.writeLock().lock();
+		try {
+			ExtendedIterator<Triple> iter = removed.find(Node.ANY, Node.ANY, Node.ANY);
+			try {
+				while (iter.hasNext())
+					set(iter.next(), true);
+			} finally {
+				iter.close();
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void notifyEvent(Graph source, Object value) {
+		// GraphEvents.removeAll and GraphEvents.remove(s, p, o) do not tell the removed triples
+		if (value instanceof GraphEvents && value != GraphEvents.startRead && value != GraphEvents.finishRead)
+			rebuild(source);
+	}
+
+	// forgets all the coordinates and reads them again from the graph, keeping the ids
+	private void rebuild(Graph g) {
+		lock.writeLock().lock();
+		try {
+			Arrays.fill(lats, 0, size, Double.NaN);
+			Arrays.fill(longs, 0, size, Double.NaN);
+			addAll(g);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void update(Triple t, boolean delete) {
+		if (!isCoordinate(t))
+			return;
+		lock.writeLock().lock();
+		try {
+			set(t, delete);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void update(Iterator<Triple> it, boolean delete) {
+		lock.writeLock().lock();
+		try {
+			while (it.hasNext())
+				set(it.next(), delete);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static boolean isCoordinate(Triple t) {
+		Node p = t.getPredicate();
+		return p.equals(LAT) || p.equals(LONG);
+	}
+
+	// called with the write lock held
+	private void set(Triple t, boolean delete) {
+		if (!isCoordinate(t))
+			return;
+		Node s = t.getSubject();
+		double value = Double.NaN;
+		if (!delete) {
+			Node o = t.getObject();
+			if (!o.isLiteral())
+				return;
+			try {
+				value = Double.parseDouble(o.getLiteralLexicalForm());
+			} catch (NumberFormatException e) {
+				return;
+			}
+		}
+		int id = find(s);
+		if (id < 0) {
+			if (delete)
+				return;
+			id = add(s);
+		}
+		if (t.getPredicate().equals(LAT))
+			lats[id] = value;
+		else
+			longs[id] = value;
+	}
+
+	private int find(Node n) {
+		int mask = table.length - 1;
+		for (int i = n.hashCode() & mask; ; i = (i + 1) & mask) {
+			int slot = table[i];
+			if (slot == 0)
+				return -1;
+			if (nodes[slot - 1].equals(n))
+				return slot - 1;
+		}
+	}
+
+	private int add(Node n) {
+		ensureCapacity(size + 1);
+		int id = size++;
+		nodes[id] = n;
+		lats[id] = Double.NaN;
+		longs[id] = Double.NaN;
+		insert(n, id);
+		return id;
+	}
+
+	private void insert(Node n, int id) {
+		int mask = table.length - 1;
+		int i = n.hashCode() & mask;
+		while (table[i] != 0)
+			i = (i + 1) & mask;
+		table[i] = id + 1;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > nodes.length) {
+			int newLength = Math.max(capacity, nodes.length * 2);
+			nodes = Arrays.copyOf(nodes, newLength);
+			lats = Arrays.copyOf(lats, newLength);
+			longs = Arrays.copyOf(longs, newLength);
+		}
+		// keep the hash table at most half full
+		if (capacity * 2 > table.length) {
+			int tableLength = table.length;
+			while (capacity * 2 > tableLength)
+				tableLength *= 2;
+			table = new int[tableLength];
+			for (int id = 0; id < size; id++)
+				insert(nodes[id], id);
+		}
+	}
+}
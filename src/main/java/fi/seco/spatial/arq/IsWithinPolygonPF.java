@@ -3,9 +3,14 @@ package fi.seco.spatial.arq;
 import java.util.ArrayList;
 import java.util.List;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.apache.jena.query.spatial.EntityDefinition;
+import org.apache.jena.query.spatial.SpatialQuery;
 import org.apache.jena.query.spatial.pfunction.SpatialOperationWithBoxPFBase;
 import org.apache.lucene.spatial.query.SpatialOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import org.apache.jena.datatypes.xsd.XSDDatatype;
 import org.apache.jena.graph.Graph;
@@ -17,17 +22,15 @@ import org.apache.jena.sparql.core.Var;
 import org.apache.jena.sparql.engine.ExecutionContext;
 import org.apache.jena.sparql.engine.QueryIterator;
 import org.apache.jena.sparql.engine.binding.Binding;
-import org.apache.jena.sparql.engine.iterator.QueryIterPlainWrapper;
+import org.apache.jena.sparql.engine.iterator.QueryIterExtendByVar;
 import org.apache.jena.sparql.pfunction.PropFuncArg;
+import org.apache.jena.sparql.util.Context;
+import org.apache.jena.sparql.util.IterLib;
 import org.apache.jena.util.iterator.ExtendedIterator;
-import com.vividsolutions.jts.geom.Coordinate;
-import com.vividsolutions.jts.geom.CoordinateList;
+import com.spatial4j.core.context.SpatialContext;
+import com.spatial4j.core.context.jts.JtsSpatialContext;
+import com.spatial4j.core.shape.Shape;
 import com.vividsolutions.jts.geom.Envelope;
-import com.vividsolutions.jts.geom.GeometryFactory;
-import com.vividsolutions.jts.geom.LinearRing;
-import com.vividsolutions.jts.geom.Point;
-import com.vividsolutions.jts.geom.Polygon;
-import com.vividsolutions.jts.geom.impl.CoordinateArraySequence;
 
 /**
  * Property function for determining if a geo point (WGS84) is inside a polygon. 
@@ -37,10 +40,11 @@ import com.vividsolutions.jts.geom.impl.CoordinateArraySequence;
  * Uses JTS Topology Suite,
  *  see http://tsusiatsoftware.net/jts/main.html
  * 
- * This property function requires the subject to be a resource with spatial-indexed geo point  
+ * This property function requires the subject to be a resource (IRI or blank node) with spatial-indexed geo point
  * (using the properties from the namespace http://www.w3.org/2003/01/geo/wgs84_pos#) or unbound,
  * and the object to be a string or list representing a polygon. If the polygon is not closed,
  * i.e. it's last point is not the same as the first point, it's closed automatically. 
+ * WKT POLYGON and MULTIPOLYGON literals may have holes (interior rings), see PolygonParser.
  *
  * Usage:
  * 
@@ -63,12 +67,37 @@ import com.vividsolutions.jts.geom.impl.CoordinateArraySequence;
  *   
  *  Lat before Long:  ?place seco-spatial:withinPolygon ('59.9224888308 24.9422920760, 59.9424526638 25.1585533582, 60.0270350324 25.1687391225, 59.9224888308 24.9422920760' ', ' ' ' true)
  *   
+ * If the polygon (or another argument) is a variable bound by a preceding pattern, the polygons of
+ * all the bindings are joined with the points in one pass, see WithinPolygonJoinPF.
+ *   
+ * By default the spatial index is queried with the bounding boxes of the cells covering the polygon
+ * and the points are tested against the polygon (the "cells" strategy). With the context symbol
+ * seco-spatial:strategy set to "native", and a JTS spatial context configured for the index
+ * (JtsSpatialContextFactory), the index is queried with the polygon itself instead. The index
+ * approximates the polygon on its grid, so the hits still get the exact point-in-polygon test.
+ * The matching subjects can be cached between queries, see ResultCache.
+ * A subject bound by a constant or a preceding pattern is not searched from the spatial index,
+ * its coordinates are tested directly (in blocks of bindings, see QueryIterWithinPolygonBatch).
+ *   
  * See class examples.SpatialFunctionsExample for complete SPARQL query examples.
  */
 
 public class IsWithinPolygonPF extends SpatialOperationWithBoxPFBase {
-	private Polygon polygon;
+	private static final Logger log = LoggerFactory.getLogger(IsWithinPolygonPF.class);
+	private static final AtomicBoolean nativeUnavailableLogged = new AtomicBoolean();
+	
+	/** Query the spatial index with the bounding boxes of the cells covering the polygon, and test the points (default) */
+	public static final String STRATEGY_CELLS = "cells";
+	/** Query the spatial index with the polygon itself, if the index uses a JTS spatial context */
+	public static final String STRATEGY_NATIVE = "native";
+	
+	private CompiledPolygon polygon;
 	private PropFuncArg argObjectBBox;
+	private WithinPolygonJoinPF join;
+	private long parseNanos;
+	private boolean polygonCacheHit;
+	private String strategy = STRATEGY_CELLS;
+	private Shape shape;
 	
 	@Override
 	protected SpatialOperation getSpatialOperation() {
@@ -83,117 +112,277 @@ public class IsWithinPolygonPF extends SpatialOperationWithBoxPFBase {
 			throw new QueryBuildException("Subject is not a single node: "
 					+ argSubject);
 
+		if (containsVariable(argObject)) {
+			// the polygon is bound per binding, e.g. by a preceding pattern:
+			// join all the polygons with the points in one pass
+			this.join = new WithinPolygonJoinPF();
+			this.join.build(argSubject, predicate, argObject, execCxt);
+			return;
+		}
+		
 		// compute the bounding box of the polygon
-	    ArrayList<Coordinate> points = new ArrayList<Coordinate>();
-	    
+		long start = System.nanoTime();
+		try {
+			this.polygon = compilePolygon(argObject, null, execCxt.getContext());
+		} catch (IllegalArgumentException e) {
+			throw new QueryBuildException(e.getMessage(), e);
+		}
+		if (this.polygon != null) {
+			this.parseNanos = System.nanoTime() - start;
+			this.polygonCacheHit = !this.polygon.markUsed();
+			WithinPolygonStats.get().recordParse(this.parseNanos, this.polygonCacheHit);
+			this.argObjectBBox = toBBox(this.polygon.getEnvelope());
+			if (STRATEGY_NATIVE.equals(execCxt.getContext().getAsString(SpatialFunctions.symStrategy, STRATEGY_CELLS)))
+				this.shape = nativeShape(this.polygon);
+			this.strategy = this.shape != null ? STRATEGY_NATIVE : STRATEGY_CELLS;
+
+			super.build(argSubject, predicate, this.argObjectBBox, execCxt);
+		}
+	}
+	
+	/**
+	 * Returns the polygon as a shape for querying the spatial index directly, or null if the
+	 * spatial context of the index is not a JTS one (then the cells strategy is used instead).
+	 */
+	private static Shape nativeShape(CompiledPolygon polygon) {
+		SpatialContext ctx = SpatialQuery.ctx;
+		if (!(ctx instanceof JtsSpatialContext)) {
+			if (nativeUnavailableLogged.compareAndSet(false, true))
+				log.info("The spatial context of the index does not support polygons (use JtsSpatialContextFactory), "
+						+ "falling back from the native to the cells strategy");
+			return null;
+		}
+		try {
+			return polygon.getShape((JtsSpatialContext) ctx);
+		} catch (RuntimeException e) {
+			log.warn("Could not create a spatial shape of the polygon, falling back to the cells strategy: " + e.getMessage());
+			return null;
+		}
+	}
+	
+	/**
+	 * Parses the object of the property function into a (cached) compiled polygon,
+	 * substituting the variables bound in the binding (if any).
+	 * Returns null if the polygon is not a literal or an argument is an unbound variable.
+	 * Throws IllegalArgumentException if the literal is not a valid polygon.
+	 */
+	static CompiledPolygon compilePolygon(PropFuncArg argObject, Binding binding, Context cxt) {
 	    String delimiterPoint = ", ";
 	    String delimiterLatLong = " ";
 	    boolean latLong = false;
 	    
+	    Node polygonNode;
 	    if (argObject.isList()) {
 	    	List<Node> args = argObject.getArgList();
-	    	if (!args.isEmpty()) {
-	    		argObject = new PropFuncArg(args.get(0));
-		    	if (args.size() > 1) {
-		    		delimiterPoint = args.get(1).getLiteralLexicalForm();
-		    		if (args.size() > 2) {
-		    			delimiterLatLong = args.get(2).getLiteralLexicalForm();
-		    			if (args.size() > 3) {
-		    				Node latLongParam = args.get(3);
-		    				if (latLongParam.getLiteralDatatype().equals(XSDDatatype.XSDboolean) &&
-		    					latLongParam.getLiteralLexicalForm() == "true")
-			    				latLong = true;
-		    			}
-			    	}
-			    }
+	    	if (args.isEmpty())
+	    		return null;
+	    	for (Node arg : args)
+	    		if (!substitute(arg, binding).isLiteral())
+	    			return null;
+	    	polygonNode = substitute(args.get(0), binding);
+	    	if (args.size() > 1) {
+	    		delimiterPoint = substitute(args.get(1), binding).getLiteralLexicalForm();
+	    		if (args.size() > 2) {
+	    			delimiterLatLong = substitute(args.get(2), binding).getLiteralLexicalForm();
+	    			if (args.size() > 3) {
+	    				Node latLongParam = substitute(args.get(3), binding);
+	    				if (XSDDatatype.XSDboolean.equals(latLongParam.getLiteralDatatype()) &&
+	    					("true".equals(latLongParam.getLiteralLexicalForm()) || "1".equals(latLongParam.getLiteralLexicalForm())))
+		    				latLong = true;
+	    			}
+		    	}
 		    }
 	    }
+	    else
+	    	polygonNode = substitute(argObject.getArg(), binding);
 	    
-	    if (argObject.getArg().isVariable()) 
-			throw new QueryBuildException("Object is/contains a variable: "
-					+ argObject);
-	    
-		Node polygonNode = argObject.getArg();
-		if (polygonNode.isLiteral()) {
-			String polygonStr = polygonNode.getLiteralLexicalForm();
-			if (polygonStr.indexOf("POLYGON ((") == 0)
-				polygonStr = polygonStr.substring("POLYGON ((".length(), polygonStr.length()-2);
-			for (String pointStr : polygonStr.split(delimiterPoint)) {
-				String[] coords = pointStr.split(delimiterLatLong);
-				if (coords.length == 2) {
-					float first = Float.parseFloat(coords[0]);
-					float second = Float.parseFloat(coords[1]);
-					if (latLong)
-						points.add(new Coordinate(first, second));
-					else
-						points.add(new Coordinate(second, first));
-				}
+		if (!polygonNode.isLiteral())
+			return null;
+		String polygonStr = polygonNode.getLiteralLexicalForm();
+		return PolygonCache.get(cxt).get(polygonStr, delimiterPoint, delimiterLatLong, latLong, getTolerance(cxt));
+	}
+	
+	// the simplification tolerance of the polygons in degrees, 0 for none
+	private static double getTolerance(Context cxt) {
+		Object tolerance = cxt != null ? cxt.get(SpatialFunctions.symSimplifyTolerance) : null;
+		if (tolerance instanceof Number)
+			return ((Number) tolerance).doubleValue();
+		if (tolerance != null) {
+			try {
+				return Double.parseDouble(tolerance.toString());
+			} catch (NumberFormatException e) {
+				log.warn("Invalid simplification tolerance: " + tolerance);
 			}
-
-			GeometryFactory gf = new GeometryFactory();
-			CoordinateList list = new CoordinateList(points.toArray(new Coordinate[points.size()]));
-			list.closeRing();
-			this.polygon = gf.createPolygon(new LinearRing(new CoordinateArraySequence(list.toCoordinateArray()), gf), null);
-			Envelope envelope = this.polygon.getEnvelopeInternal();
-			
-			List<Node> bBox = new ArrayList<Node>();
-			bBox.add(NodeFactory.createLiteral(Double.toString(envelope.getMinX())));
-			bBox.add(NodeFactory.createLiteral(Double.toString(envelope.getMinY())));
-			bBox.add(NodeFactory.createLiteral(Double.toString(envelope.getMaxX())));
-			bBox.add(NodeFactory.createLiteral(Double.toString(envelope.getMaxY())));
-			this.argObjectBBox = new PropFuncArg(bBox);
-
-			super.build(argSubject, predicate, this.argObjectBBox, execCxt);
 		}
+		return 0;
+	}
+	
+	private static Node substitute(Node n, Binding binding) {
+		if (binding != null && n.isVariable()) {
+			Node value = binding.get(Var.alloc(n));
+			if (value != null)
+				return value;
+		}
+		return n;
+	}
+	
+	private static boolean containsVariable(PropFuncArg arg) {
+		if (arg.isNode())
+			return arg.getArg().isVariable();
+		for (Node n : arg.getArgList())
+			if (n.isVariable())
+				return true;
+		return false;
+	}
+
+	@Override
+	public QueryIterator exec(QueryIterator input, final PropFuncArg argSubject,
+			final Node predicate, final PropFuncArg argObject, final ExecutionContext execCxt) {
+		if (this.join != null)
+			return this.join.exec(input, argSubject, predicate, argObject, execCxt);
+		Node subj = argSubject.getArg();
+		if (this.polygon == null || subj.isLiteral())
+			return super.exec(input, argSubject, predicate, argObject, execCxt);
+		// test the subjects bound by the input in blocks, the other bindings one by one
+		int batchSize = execCxt.getContext().getInt(SpatialFunctions.symBoundBatchSize, QueryIterWithinPolygonBatch.DEFAULT_BATCH_SIZE);
+		WithinPolygonMetrics metrics = new WithinPolygonMetrics(this.polygon, this.parseNanos, this.polygonCacheHit, this.strategy);
+		return new QueryIterWithinPolygonBatch(input, subj, this.polygon, batchSize, execCxt.getActiveGraph(),
+				CoordinateStore.get(execCxt), metrics, execCxt) {
+			@Override
+			protected QueryIterator execBinding(Binding binding) {
+				return exec(binding, argSubject, predicate, argObject, execCxt);
+			}
+		};
 	}
 
 	@Override
-	public QueryIterator exec(Binding binding, PropFuncArg argSubject,
-			Node predicate, PropFuncArg argObject, ExecutionContext execCxt) {
+	public QueryIterator exec(final Binding binding, final PropFuncArg argSubject,
+			final Node predicate, PropFuncArg argObject, final ExecutionContext execCxt) {
 		if (this.polygon != null) {
-			// first query the Lucene spatial index with the bounding box of the polygon
-			QueryIterator qIter = super.exec(binding, argSubject, predicate, this.argObjectBBox, execCxt);
-	
-			// then filter out the points that are not inside the polygon
+			WithinPolygonMetrics metrics = new WithinPolygonMetrics(this.polygon, this.parseNanos, this.polygonCacheHit, this.strategy);
+			metrics.publish(execCxt.getContext());
 			Graph g = execCxt.getActiveGraph();
-			Node subj = argSubject.getArg();
+			CoordinateStore store = CoordinateStore.get(execCxt);
+			Node subj = substitute(argSubject.getArg(), binding);
 			if (subj.isVariable()) {
-				Var v = Var.alloc(subj);
-				ArrayList<Binding> filteredHits = new ArrayList<Binding>();
-				while (qIter.hasNext()) {
-					Binding b = qIter.nextBinding();
-					if (isWithin(b.get(v), g))
-						filteredHits.add(b);
+				Var var = Var.alloc(subj);
+				ResultCache cache = ResultCache.get(execCxt.getContext());
+				ResultCache.Key key = cache != null ? cache.key(this.polygon, this.strategy, execCxt) : null;
+				if (key != null) {
+					QueryIterator cached = cache.lookup(key, binding, var, store, metrics, execCxt);
+					if (cached != null)
+						return cached;
 				}
-				return new QueryIterPlainWrapper(filteredHits.iterator());			
+				QueryIterator results = queryWithin(var, binding, argSubject, predicate, g, store, metrics, execCxt);
+				return key != null ? cache.fill(key, results, var, store, execCxt) : results;
 			}
-			else if (subj.isURI()) {
-				if (isWithin(subj, g))
-					return qIter;
+			else if (!subj.isLiteral()) {
+				// the subject is bound (e.g. by a join): test its point directly without searching the spatial index
+				long start = System.nanoTime();
+				double[] latLong = new double[2];
+				boolean found = getCoordinates(subj, g, store, latLong);
+				long lookedUp = System.nanoTime();
+				metrics.lookupNanos = lookedUp - start;
+				boolean within = found && this.polygon.contains(latLong[0], latLong[1]);
+				metrics.testNanos = System.nanoTime() - lookedUp;
+				metrics.candidates = found ? 1 : 0;
+				if (within) {
+					metrics.results = 1;
+					metrics.finish();
+					return IterLib.result(binding, execCxt);
+				}
 			}
+			metrics.finish();
 		}
-		return null;
+		return IterLib.noResults(execCxt);
 	}
 	
-	private boolean isWithin(Node uri, Graph g) {
-		// works only for points and does not support custom geo predicates (or WKT properties)
-		// - fix by using Lucene polygon query (if available?)
+	private QueryIterator queryWithin(Var var, final Binding binding, final PropFuncArg argSubject, final Node predicate,
+			Graph g, CoordinateStore store, WithinPolygonMetrics metrics, final ExecutionContext execCxt) {
+		if (this.shape != null) {
+			// query the index with the polygon itself, and test its (grid-approximated) hits exactly
+			final Var subjectVar = var;
+			return new QueryIterWithinPolygon(var, this.polygon, PolygonCovering.whole(this.polygon), g, store, metrics, execCxt) {
+				@Override
+				protected QueryIterator queryCell(PolygonCovering.Cell cell) {
+					return queryShape(binding, subjectVar, execCxt);
+				}
+			};
+		}
+		// query the Lucene spatial index with the bounding box of each cell covering the polygon,
+		// and filter out lazily the points that are not inside the polygon
+		int depth = execCxt.getContext().getInt(SpatialFunctions.symCoveringDepth, PolygonCovering.DEFAULT_DEPTH);
+		return new QueryIterWithinPolygon(var, this.polygon, this.polygon.getCovering(depth), g, store, metrics, execCxt) {
+			@Override
+			protected QueryIterator queryCell(PolygonCovering.Cell cell) {
+				return queryBox(binding, argSubject, predicate, toBBox(cell.getEnvelope()), execCxt);
+			}
+		};
+	}
+	
+	private QueryIterator queryShape(Binding binding, Var var, ExecutionContext execCxt) {
+		if (server == null)
+			return IterLib.noResults(execCxt);
+		List<Node> hits = server.query(this.shape, -1, getSpatialOperation());
+		return new QueryIterExtendByVar(binding, var, hits.iterator(), execCxt);
+	}
+	
+	private QueryIterator queryBox(Binding binding, PropFuncArg argSubject,
+			Node predicate, PropFuncArg argBBox, ExecutionContext execCxt) {
+		return super.exec(binding, argSubject, predicate, argBBox, execCxt);
+	}
+	
+	static PropFuncArg toBBox(Envelope envelope) {
+		return new PropFuncArg(bBoxNodes(envelope));
+	}
+	
+	// with the maximum number of hits
+	static PropFuncArg toBBox(Envelope envelope, int limit) {
+		List<Node> bBox = bBoxNodes(envelope);
+		bBox.add(NodeFactory.createLiteral(Integer.toString(limit), XSDDatatype.XSDinteger));
+		return new PropFuncArg(bBox);
+	}
+	
+	private static List<Node> bBoxNodes(Envelope envelope) {
+		List<Node> bBox = new ArrayList<Node>();
+		bBox.add(NodeFactory.createLiteral(Double.toString(envelope.getMinX())));
+		bBox.add(NodeFactory.createLiteral(Double.toString(envelope.getMinY())));
+		bBox.add(NodeFactory.createLiteral(Double.toString(envelope.getMaxX())));
+		bBox.add(NodeFactory.createLiteral(Double.toString(envelope.getMaxY())));
+		return bBox;
+	}
+	
+	static boolean isWithin(Node uri, Graph g, CoordinateStore store, CompiledPolygon polygon) {
+		double[] latLong = new double[2];
+		return getCoordinates(uri, g, store, latLong) && polygon.contains(latLong[0], latLong[1]);
+	}
+	
+	/**
+	 * Copies the latitude and longitude of the resource into latLong, from the coordinate store
+	 * if there is one and it knows the resource, otherwise from the graph.
+	 */
+	static boolean getCoordinates(Node uri, Graph g, CoordinateStore store, double[] latLong) {
+		if (store != null && store.getCoordinates(uri, latLong))
+			return true;
+		// works only for points of the WGS84 lat/long properties, not for custom geo predicates
+		// (or WKT properties) of the spatial index
 		ExtendedIterator<Triple> iter = g.find(uri, EntityDefinition.geo_latitude.asNode(), null);
-		if (iter.hasNext()) {
-			Double latD = Double.parseDouble(iter.next().getObject().getLiteralLexicalForm());
-			ExtendedIterator<Triple> iter2 = g.find(uri, EntityDefinition.geo_longitude.asNode(), null);
-			if (iter2.hasNext()) {
-				Double longD = Double.parseDouble(iter2.next().getObject().getLiteralLexicalForm());
-				return isWithin(latD, longD);
+		try {
+			if (iter.hasNext()) {
+				latLong[0] = Double.parseDouble(iter.next().getObject().getLiteralLexicalForm());
+				ExtendedIterator<Triple> iter2 = g.find(uri, EntityDefinition.geo_longitude.asNode(), null);
+				try {
+					if (iter2.hasNext()) {
+						latLong[1] = Double.parseDouble(iter2.next().getObject().getLiteralLexicalForm());
+						return true;
+					}
+				} finally {
+					iter2.close();
+				}
 			}
+		} finally {
+			iter.close();
 		}
 		return false;
 	}
-	
-	private boolean isWithin(double latD, double longD) {
-		Coordinate coord = new Coordinate(latD, longD);
-		GeometryFactory gf = new GeometryFactory();
-		Point point = gf.createPoint(coord);
-		return point.within(this.polygon);
-	}
 }
\ No newline at end of file
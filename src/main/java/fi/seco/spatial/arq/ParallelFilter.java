@@ -0,0 +1,173 @@
+package fi.seco.spatial.arq;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.apache.jena.query.QueryCancelledException;
+import org.apache.jena.query.QueryExecException;
+import org.apache.jena.sparql.engine.binding.Binding;
+import org.apache.jena.sparql.util.Context;
+
+/**
+ * Opt-in parallel point-in-polygon testing of large candidate sets.
+ *
+ * The candidates are read from the spatial index and their coordinates fetched on the query
+ * thread (the triple store may be bound to the transaction of that thread), in batches of
+ * batch size. A batch with at least threshold candidates is split into chunks that are tested
+ * on a fork-join pool shared by the queries with the same parallelism, smaller batches are
+ * tested sequentially. The results of the chunks are passed on either in the original order
+ * of the candidates or in the order the chunks complete.
+ *
+ * A batch never spans more than one index query, whose hits the Lucene index caps at 10000,
+ * so the default threshold is well below that: two chunks of the minimum size.
+ *
+ * Enabled with the context symbol SpatialFunctions.symParallel, and configured with
+ * symParallelism, symParallelThreshold, symParallelBatchSize and symParallelOrdered.
+ */
+public class ParallelFilter {
+	private static final int MIN_CHUNK_SIZE = 1024;
+	public static final int DEFAULT_THRESHOLD = 2 * MIN_CHUNK_SIZE;
+	public static final int DEFAULT_BATCH_SIZE = 65536;
+
+	private static final ConcurrentHashMap<Integer, ForkJoinPool> pools = new ConcurrentHashMap<Integer, ForkJoinPool>();
+
+	private final ForkJoinPool pool;
+	private final int parallelism;
+	private final int threshold;
+	private final int batchSize;
+	private final boolean ordered;
+
+	public ParallelFilter(int parallelism, int threshold, int batchSize, boolean ordered) {
+		this.parallelism = Math.max(1, parallelism);
+		this.threshold = Math.max(1, threshold);
+		this.batchSize = Math.max(this.threshold, batchSize);
+		this.ordered = ordered;
+		this.pool = getPool(this.parallelism);
+	}
+
+	/**
+	 * Returns the parallel filter configured in the context, or null if parallel mode is not enabled.
+	 */
+	public static ParallelFilter get(Context cxt) {
+		if (cxt == null || !cxt.isTrue(SpatialFunctions.symParallel))
+			return null;
+		return new ParallelFilter(
+				cxt.getInt(SpatialFunctions.symParallelism, Runtime.getRuntime().availableProcessors()),
+				cxt.getInt(SpatialFunctions.symParallelThreshold, DEFAULT_THRESHOLD),
+				cxt.getInt(SpatialFunctions.symParallelBatchSize, DEFAULT_BATCH_SIZE),
+				cxt.isTrueOrUndef(SpatialFunctions.symParallelOrdered));
+	}
+
+	private static ForkJoinPool getPool(int parallelism) {
+		ForkJoinPool pool = pools.get(parallelism);
+		if (pool == null) {
+			pool = new ForkJoinPool(parallelism);
+			ForkJoinPool existing = pools.putIfAbsent(parallelism, pool);
+			if (existing != null) {
+				pool.shutdown();
+				pool = existing;
+			}
+		}
+		return pool;
+	}
+
+	public int getThreshold() {
+		return threshold;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public boolean isOrdered() {
+		return ordered;
+	}
+
+	/**
+	 * Tests the first n candidates (with their coordinates) against the polygon in parallel.
+	 */
+	public Batch submit(CompiledPolygon polygon, Binding[] bindings, double[] lats, double[] longs, int n) {
+		return new Batch(polygon, bindings, lats, longs, n);
+	}
+
+	/**
+	 * Sequential version of submit for batches below the threshold.
+	 */
+	public static void test(CompiledPolygon polygon, Binding[] bindings, double[] lats, double[] longs,
+			int from, int to, Collection<Binding> out) {
+		for (int i = from; i < to; i++)
+			if (polygon.contains(lats[i], longs[i]))
+				out.add(bindings[i]);
+	}
+
+	/**
+	 * The chunks of a batch being tested.
+	 */
+	public class Batch {
+		// cancel() may be called from another thread
+		private final ConcurrentLinkedQueue<Future<List<Binding>>> futures = new ConcurrentLinkedQueue<Future<List<Binding>>>();
+		private final ExecutorCompletionService<List<Binding>> completed;
+		private int remaining;
+		private volatile boolean cancelled = false;
+
+		Batch(final CompiledPolygon polygon, final Binding[] bindings, final double[] lats, final double[] longs, int n) {
+			this.completed = ordered ? null : new ExecutorCompletionService<List<Binding>>(pool);
+			int chunkSize = Math.max(MIN_CHUNK_SIZE, (n + parallelism * 4 - 1) / (parallelism * 4));
+			for (int from = 0; from < n; from += chunkSize) {
+				final int start = from;
+				final int end = Math.min(n, from + chunkSize);
+				Callable<List<Binding>> task = new Callable<List<Binding>>() {
+					@Override
+					public List<Binding> call() {
+						List<Binding> accepted = new ArrayList<Binding>();
+						test(polygon, bindings, lats, longs, start, end, accepted);
+						return accepted;
+					}
+				};
+				futures.add(ordered ? pool.submit(task) : completed.submit(task));
+			}
+			this.remaining = futures.size();
+		}
+
+		/**
+		 * Waits for the next chunk (in order, or the next one completed) and adds its results to out.
+		 * Returns false when all the chunks have been consumed.
+		 */
+		public boolean poll(Collection<Binding> out) {
+			if (remaining == 0 || cancelled)
+				return false;
+			try {
+				Future<List<Binding>> f = ordered ? futures.poll() : completed.take();
+				remaining--;
+				out.addAll(f.get());
+				return true;
+			} catch (CancellationException e) {
+				return false;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				cancel();
+				throw new QueryCancelledException();
+			} catch (ExecutionException e) {
+				cancel();
+				if (e.getCause() instanceof RuntimeException)
+					throw (RuntimeException) e.getCause();
+				throw new QueryExecException("Parallel polygon test failed", e.getCause());
+			}
+		}
+
+		public void cancel() {
+			cancelled = true;
+			for (Future<List<Binding>> f : futures)
+				f.cancel(false);
+		}
+	}
+}
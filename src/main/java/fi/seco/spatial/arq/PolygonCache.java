@@ -0,0 +1,172 @@
+package fi.seco.spatial.arq;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.jena.sparql.util.Context;
+
+/**
+ * Bounded, thread-safe cache of compiled polygons shared between queries, so that
+ * repeated queries with the same polygon literal skip parsing and preparing the polygon.
+ *
+ * Entries are keyed by (literal, delimiter_point, delimiter_longlat, lat_long, simplification tolerance).
+ * The size and eviction policy ("lru" or "fifo") can be set through the ARQ Context
+ * with the symbols SpatialFunctions.symPolygonCacheSize and SpatialFunctions.symPolygonCacheEviction.
+ * A size of 0 disables caching.
+ */
+public class PolygonCache {
+	public static final int DEFAULT_SIZE = 1000;
+	public static final String EVICTION_LRU = "lru";
+	public static final String EVICTION_FIFO = "fifo";
+
+	private static final PolygonCache instance = new PolygonCache(DEFAULT_SIZE, true);
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	private int maxSize;
+	private boolean lru;
+	private LinkedHashMap<Key, CompiledPolygon> map;
+
+	public PolygonCache(int maxSize, boolean lru) {
+		this.maxSize = maxSize;
+		this.lru = lru;
+		this.map = createMap(maxSize, lru);
+	}
+
+	/**
+	 * Returns the shared cache.
+	 */
+	public static PolygonCache get() {
+		return instance;
+	}
+
+	/**
+	 * Returns the shared cache, configured from the given context.
+	 */
+	public static PolygonCache get(Context cxt) {
+		if (cxt != null) {
+			int size = cxt.getInt(SpatialFunctions.symPolygonCacheSize, DEFAULT_SIZE);
+			String eviction = cxt.getAsString(SpatialFunctions.symPolygonCacheEviction, EVICTION_LRU);
+			instance.configure(size, !EVICTION_FIFO.equalsIgnoreCase(eviction));
+		}
+		return instance;
+	}
+
+	public synchronized void configure(int maxSize, boolean lru) {
+		if (this.maxSize == maxSize && this.lru == lru)
+			return;
+		LinkedHashMap<Key, CompiledPolygon> newMap = createMap(maxSize, lru);
+		if (maxSize > 0)
+			newMap.putAll(this.map);
+		this.maxSize = maxSize;
+		this.lru = lru;
+		this.map = newMap;
+	}
+
+	public CompiledPolygon get(String polygonStr, String delimiterPoint, String delimiterLatLong, boolean latLong) {
+		return get(polygonStr, delimiterPoint, delimiterLatLong, latLong, 0);
+	}
+
+	public CompiledPolygon get(String polygonStr, String delimiterPoint, String delimiterLatLong, boolean latLong,
+			double tolerance) {
+		Key key = new Key(polygonStr, delimiterPoint, delimiterLatLong, latLong, tolerance);
+		CompiledPolygon polygon;
+		synchronized (this) {
+			polygon = map.get(key);
+		}
+		if (polygon != null) {
+			hits.incrementAndGet();
+			return polygon;
+		}
+		misses.incrementAndGet();
+		// parse outside the lock, a concurrent miss for the same key just parses twice
+		polygon = CompiledPolygon.parse(polygonStr, delimiterPoint, delimiterLatLong, latLong, tolerance);
+		synchronized (this) {
+			if (maxSize > 0)
+				map.put(key, polygon);
+		}
+		return polygon;
+	}
+
+	public synchronized void clear() {
+		map.clear();
+	}
+
+	public synchronized int size() {
+		return map.size();
+	}
+
+	public synchronized int getMaxSize() {
+		return maxSize;
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	private LinkedHashMap<Key, CompiledPolygon> createMap(final int maxSize, boolean lru) {
+		return new LinkedHashMap<Key, CompiledPolygon>(16, 0.75f, lru) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, CompiledPolygon> eldest) {
+				if (size() > maxSize) {
+					evictions.incrementAndGet();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	private static final class Key {
+		private final String polygonStr;
+		private final String delimiterPoint;
+		private final String delimiterLatLong;
+		private final boolean latLong;
+		private final double tolerance;
+		private final int hash;
+
+		Key(String polygonStr, String delimiterPoint, String delimiterLatLong, boolean latLong, double tolerance) {
+			this.polygonStr = polygonStr;
+			this.delimiterPoint = delimiterPoint;
+			this.delimiterLatLong = delimiterLatLong;
+			this.latLong = latLong;
+			this.tolerance = tolerance;
+			int h = polygonStr.hashCode();
+			h = 31 * h + delimiterPoint.hashCode();
+			h = 31 * h + delimiterLatLong.hashCode();
+			h = 31 * h + Double.valueOf(tolerance).hashCode();
+			this.hash = 31 * h + (latLong ? 1 : 0);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+			if (!(o instanceof Key))
+				return false;
+			Key k = (Key) o;
+			return hash == k.hash && latLong == k.latLong && tolerance == k.tolerance
+					&& polygonStr.equals(k.polygonStr)
+					&& delimiterPoint.equals(k.delimiterPoint)
+					&& delimiterLatLong.equals(k.delimiterLatLong);
+		}
+	}
+}
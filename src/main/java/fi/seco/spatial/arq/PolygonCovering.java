@@ -0,0 +1,119 @@
+package fi.seco.spatial.arq;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.prep.PreparedGeometry;
+
+/**
+ * Quadtree covering of a polygon: the envelope of the polygon is split recursively into
+ * quadrants up to the given depth, dropping the cells outside the polygon.
+ *
+ * A cell is interior if it is inside the polygon, so the points in it are accepted without
+ * the point-in-polygon test, otherwise it is a boundary cell and it is split further
+ * (or kept as is at the maximum depth). Each cell is queried from the spatial index with its
+ * own bounding box, see IsWithinPolygonPF. Interior cells come first. The cells share their
+ * edges, a point on a shared edge belongs to the cell given by owns().
+ */
+public class PolygonCovering {
+	public static final int DEFAULT_DEPTH = 2;
+	public static final int MAX_DEPTH = 8;
+
+	// interior cells are tested with a small margin (~1 m) for the precision of the spatial index
+	private static final double MARGIN = 0.00001;
+
+	private final List<Cell> cells;
+	private final int interiorCells;
+
+	private PolygonCovering(List<Cell> cells, int interiorCells) {
+		this.cells = Collections.unmodifiableList(cells);
+		this.interiorCells = interiorCells;
+	}
+
+	public static PolygonCovering compute(CompiledPolygon polygon, int depth) {
+		List<Cell> interior = new ArrayList<Cell>();
+		List<Cell> boundary = new ArrayList<Cell>();
+		cover(polygon.getPreparedGeometry(), polygon.getEnvelope(), Math.min(depth, MAX_DEPTH), interior, boundary);
+		int interiorCells = interior.size();
+		interior.addAll(boundary);
+		return new PolygonCovering(interior, interiorCells);
+	}
+
+	/**
+	 * A covering of a single boundary cell, for querying the spatial index with the polygon itself
+	 * (see IsWithinPolygonPF.STRATEGY_NATIVE): the index approximates the polygon on its grid, so
+	 * the hits still get the point-in-polygon test.
+	 */
+	public static PolygonCovering whole(CompiledPolygon polygon) {
+		List<Cell> cells = new ArrayList<Cell>();
+		cells.add(new Cell(polygon.getEnvelope(), false));
+		return new PolygonCovering(cells, 0);
+	}
+
+	private static void cover(PreparedGeometry polygon, Envelope env, int depth, List<Cell> interior, List<Cell> boundary) {
+		Envelope expanded = new Envelope(env);
+		expanded.expandBy(MARGIN);
+		if (polygon.containsProperly(toGeometry(expanded))) {
+			interior.add(new Cell(env, true));
+			return;
+		}
+		if (!polygon.intersects(toGeometry(env)))
+			return;
+		if (depth <= 0 || env.getWidth() == 0 || env.getHeight() == 0) {
+			boundary.add(new Cell(env, false));
+			return;
+		}
+		double midX = (env.getMinX() + env.getMaxX()) / 2;
+		double midY = (env.getMinY() + env.getMaxY()) / 2;
+		cover(polygon, new Envelope(env.getMinX(), midX, env.getMinY(), midY), depth-1, interior, boundary);
+		cover(polygon, new Envelope(midX, env.getMaxX(), env.getMinY(), midY), depth-1, interior, boundary);
+		cover(polygon, new Envelope(env.getMinX(), midX, midY, env.getMaxY()), depth-1, interior, boundary);
+		cover(polygon, new Envelope(midX, env.getMaxX(), midY, env.getMaxY()), depth-1, interior, boundary);
+	}
+
+	/**
+	 * Returns true if the point belongs to the box, a part of the root envelope split into boxes
+	 * sharing their edges: the boxes are closed at their min edges and open at their max edges,
+	 * apart from the max edges of the root envelope, so a point belongs to exactly one box.
+	 */
+	static boolean owns(Envelope box, Envelope root, double x, double y) {
+		return x >= box.getMinX() && (x < box.getMaxX() || (x == box.getMaxX() && box.getMaxX() == root.getMaxX()))
+				&& y >= box.getMinY() && (y < box.getMaxY() || (y == box.getMaxY() && box.getMaxY() == root.getMaxY()));
+	}
+
+	private static Geometry toGeometry(Envelope env) {
+		return CompiledPolygon.geometryFactory.toGeometry(env);
+	}
+
+	public List<Cell> getCells() {
+		return cells;
+	}
+
+	public int getInteriorCellCount() {
+		return interiorCells;
+	}
+
+	/**
+	 * A cell of the covering, x is the latitude and y the longitude as in CompiledPolygon.
+	 */
+	public static class Cell {
+		private final Envelope envelope;
+		private final boolean interior;
+
+		Cell(Envelope envelope, boolean interior) {
+			this.envelope = envelope;
+			this.interior = interior;
+		}
+
+		public Envelope getEnvelope() {
+			return envelope;
+		}
+
+		public boolean isInterior() {
+			return interior;
+		}
+	}
+}
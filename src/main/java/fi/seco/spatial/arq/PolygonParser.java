@@ -0,0 +1,282 @@
+package fi.seco.spatial.arq;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.LinearRing;
+import com.vividsolutions.jts.geom.Polygon;
+import com.vividsolutions.jts.geom.impl.PackedCoordinateSequence;
+
+/**
+ * Single-pass parser of the polygon literals of seco-spatial:withinPolygon.
+ *
+ * Supports WKT POLYGON and MULTIPOLYGON with interior rings (optionally preceded by a
+ * GeoSPARQL CRS IRI, extra ordinates such as Z are ignored), and the point lists with custom
+ * delimiters: 'long_1 lat_1, long_2 lat_2, ...' by default. The delimiters are matched as
+ * literal strings, whitespace before a number is skipped.
+ *
+ * The characters are scanned once, and the numbers are parsed in double precision directly
+ * into the packed coordinate array of each ring, without splitting the literal into strings
+ * or creating Coordinate objects. Unclosed rings are closed. As in CompiledPolygon, x is the
+ * latitude and y the longitude.
+ */
+public class PolygonParser {
+	// exactly representable powers of ten for the fast path of parseNumber
+	private static final double[] POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+		1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	private final String str;
+	private final int length;
+	private final boolean latLong;
+	private final GeometryFactory factory;
+	private int pos = 0;
+
+	// coordinates of the ring being parsed, reused between the rings
+	private double[] coords = new double[256];
+	private int n = 0;
+
+	private PolygonParser(String str, boolean latLong, GeometryFactory factory) {
+		this.str = str;
+		this.length = str.length();
+		this.latLong = latLong;
+		this.factory = factory;
+	}
+
+	/**
+	 * Parses a polygon literal into a Polygon or a MultiPolygon.
+	 * Throws IllegalArgumentException if the literal is not a valid polygon.
+	 */
+	public static Geometry parse(String str, String delimiterPoint, String delimiterLatLong,
+			boolean latLong, GeometryFactory factory) {
+		PolygonParser parser = new PolygonParser(str, latLong, factory);
+		parser.skipWhitespace();
+		parser.skipCrs();
+		if (parser.matchKeyword("MULTIPOLYGON"))
+			return parser.parseMultiPolygon();
+		if (parser.matchKeyword("POLYGON")) {
+			Polygon polygon = parser.parsePolygon();
+			parser.expectEnd();
+			return polygon;
+		}
+		return parser.parsePoints(delimiterPoint, delimiterLatLong);
+	}
+
+	// a point list with custom delimiters, a single ring
+	private Geometry parsePoints(String delimiterPoint, String delimiterLatLong) {
+		while (true) {
+			skipWhitespace();
+			if (pos >= length)
+				break;
+			double first = parseNumber();
+			if (!match(delimiterLatLong))
+				throw error("expected '" + delimiterLatLong + "'");
+			skipWhitespace();
+			addPoint(first, parseNumber());
+			if (pos < length && !match(delimiterPoint)) {
+				skipWhitespace();
+				if (pos < length)
+					throw error("expected '" + delimiterPoint + "'");
+			}
+		}
+		return factory.createPolygon(ring(), null);
+	}
+
+	private Geometry parseMultiPolygon() {
+		skipDimension();
+		expect('(');
+		List<Polygon> polygons = new ArrayList<Polygon>();
+		do
+			polygons.add(parsePolygon());
+		while (next(','));
+		expect(')');
+		expectEnd();
+		if (polygons.size() == 1)
+			return polygons.get(0);
+		return factory.createMultiPolygon(polygons.toArray(new Polygon[polygons.size()]));
+	}
+
+	// (shell, hole, ...), also after the POLYGON keyword
+	private Polygon parsePolygon() {
+		skipDimension();
+		expect('(');
+		LinearRing shell = parseRing();
+		List<LinearRing> holes = new ArrayList<LinearRing>();
+		while (next(','))
+			holes.add(parseRing());
+		expect(')');
+		return factory.createPolygon(shell, holes.toArray(new LinearRing[holes.size()]));
+	}
+
+	private LinearRing parseRing() {
+		expect('(');
+		do {
+			skipWhitespace();
+			double first = parseNumber();
+			skipWhitespace();
+			double second = parseNumber();
+			// ignore Z and M ordinates
+			while (skipWhitespace() && pos < length && isNumberStart(str.charAt(pos)))
+				parseNumber();
+			addPoint(first, second);
+		} while (next(','));
+		expect(')');
+		return ring();
+	}
+
+	private void addPoint(double first, double second) {
+		if (n + 2 > coords.length)
+			coords = Arrays.copyOf(coords, coords.length * 2);
+		coords[n++] = latLong ? first : second;
+		coords[n++] = latLong ? second : first;
+	}
+
+	// the ring of the points added since the previous ring, closed if necessary
+	private LinearRing ring() {
+		if (n >= 2 && (coords[0] != coords[n-2] || coords[1] != coords[n-1]))
+			addPoint(latLong ? coords[0] : coords[1], latLong ? coords[1] : coords[0]);
+		if (n < 8)
+			throw error("a ring needs at least 3 distinct points");
+		PackedCoordinateSequence.Double seq = new PackedCoordinateSequence.Double(Arrays.copyOf(coords, n), 2);
+		n = 0;
+		return factory.createLinearRing(seq);
+	}
+
+	/**
+	 * Parses a decimal number in double precision. Numbers of at most 18 significant digits
+	 * with a small exponent are computed exactly from the digits, others with Double.parseDouble.
+	 */
+	private double parseNumber() {
+		int start = pos;
+		boolean negative = false;
+		if (pos < length && (str.charAt(pos) == '-' || str.charAt(pos) == '+'))
+			negative = str.charAt(pos++) == '-';
+		long mantissa = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean exact = true;
+		boolean seenDigit = false;
+		for (; pos < length; pos++) {
+			char c = str.charAt(pos);
+			if (c < '0' || c > '9')
+				break;
+			seenDigit = true;
+			if (digits < 18) {
+				mantissa = mantissa * 10 + (c - '0');
+				if (mantissa != 0)
+					digits++;
+			} else {
+				exponent++;
+				exact = false;
+			}
+		}
+		if (pos < length && str.charAt(pos) == '.') {
+			pos++;
+			for (; pos < length; pos++) {
+				char c = str.charAt(pos);
+				if (c < '0' || c > '9')
+					break;
+				seenDigit = true;
+				if (digits < 18) {
+					mantissa = mantissa * 10 + (c - '0');
+					if (mantissa != 0)
+						digits++;
+					exponent--;
+				} else
+					exact = false;
+			}
+		}
+		if (!seenDigit)
+			throw error("expected a number");
+		if (pos < length && (str.charAt(pos) == 'e' || str.charAt(pos) == 'E')) {
+			pos++;
+			exact = false;
+			if (pos < length && (str.charAt(pos) == '-' || str.charAt(pos) == '+'))
+				pos++;
+			int expStart = pos;
+			while (pos < length && str.charAt(pos) >= '0' && str.charAt(pos) <= '9')
+				pos++;
+			if (pos == expStart)
+				throw error("expected an exponent");
+		}
+		if (!exact || mantissa > (1L << 53) || exponent < -22 || exponent > 22)
+			return Double.parseDouble(str.substring(start, pos));
+		double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+		return negative ? -value : value;
+	}
+
+	private static boolean isNumberStart(char c) {
+		return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.';
+	}
+
+	// always true, for use in loop conditions
+	private boolean skipWhitespace() {
+		while (pos < length && Character.isWhitespace(str.charAt(pos)))
+			pos++;
+		return true;
+	}
+
+	// a GeoSPARQL CRS IRI before the WKT, e.g. <http://www.opengis.net/def/crs/OGC/1.3/CRS84>
+	private void skipCrs() {
+		if (pos < length && str.charAt(pos) == '<') {
+			int end = str.indexOf('>', pos);
+			if (end < 0)
+				throw error("unterminated CRS IRI");
+			pos = end + 1;
+			skipWhitespace();
+		}
+	}
+
+	// Z, M or ZM after the keyword
+	private void skipDimension() {
+		skipWhitespace();
+		if (!matchKeyword("ZM") && !matchKeyword("Z"))
+			matchKeyword("M");
+		skipWhitespace();
+	}
+
+	private boolean matchKeyword(String keyword) {
+		if (!str.regionMatches(true, pos, keyword, 0, keyword.length()))
+			return false;
+		int end = pos + keyword.length();
+		if (end < length && Character.isLetter(str.charAt(end)))
+			return false;
+		pos = end;
+		return true;
+	}
+
+	private boolean match(String delimiter) {
+		if (!str.startsWith(delimiter, pos))
+			return false;
+		pos += delimiter.length();
+		return true;
+	}
+
+	private boolean next(char c) {
+		skipWhitespace();
+		if (pos < length && str.charAt(pos) == c) {
+			pos++;
+			return true;
+		}
+		return false;
+	}
+
+	private void expect(char c) {
+		if (!next(c))
+			throw error("expected '" + c + "'");
+	}
+
+	private void expectEnd() {
+		skipWhitespace();
+		if (pos < length)
+			throw error("unexpected '" + str.charAt(pos) + "'");
+	}
+
+	private IllegalArgumentException error(String message) {
+		String context = str.substring(Math.max(0, pos - 20), Math.min(length, pos + 20));
+		return new IllegalArgumentException("Invalid polygon at position " + pos + ": " + message + " near '" + context + "'");
+	}
+}
@@ -0,0 +1,229 @@
+package fi.seco.spatial.arq;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.query.QueryCancelledException;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.engine.ExecutionContext;
+import org.apache.jena.sparql.engine.QueryIterator;
+import org.apache.jena.sparql.engine.binding.Binding;
+import org.apache.jena.sparql.engine.iterator.QueryIter;
+
+import com.vividsolutions.jts.geom.Envelope;
+
+/**
+ * Lazily queries the spatial index for the cells of a polygon covering and filters the
+ * candidates, passing on only the bindings whose subject is inside the polygon.
+ *
+ * Candidates from interior cells are accepted as such, candidates from boundary cells
+ * get the point-in-polygon test. The cells share their edges, so a hit on a shared edge is
+ * returned by the index queries of both cells: if there is more than one cell, a candidate
+ * is passed on only from the cell owning its point (see PolygonCovering.owns), which needs
+ * the coordinates of the candidates of interior cells too but no set of the subjects seen.
+ * Cells are queried and candidates tested only when the next result is asked for, so a
+ * LIMIT stops the evaluation early. Closing or cancelling this iterator closes or cancels
+ * the index iterator of the current cell, and a cancel request (e.g. a query timeout) is
+ * noticed also while skipping over candidates outside the polygon.
+ *
+ * In parallel mode (see ParallelFilter) the candidates of boundary cells are read in batches
+ * and tested on a thread pool.
+ *
+ * The counts and the time spent in each phase are recorded into the WithinPolygonMetrics
+ * of the evaluation, which is finished when the iterator is closed.
+ */
+public abstract class QueryIterWithinPolygon extends QueryIter {
+	private final Var var;
+	private final CompiledPolygon polygon;
+	private final List<PolygonCovering.Cell> cells;
+	private final Graph graph;
+	private final CoordinateStore store;
+	// the envelope split into the cells, null for a single cell (no hits on shared edges)
+	private final Envelope root;
+	private final ParallelFilter parallel;
+	private final WithinPolygonMetrics metrics;
+	private final double[] latLong = new double[2];
+	private final ArrayDeque<Binding> ready = new ArrayDeque<Binding>();
+	private ParallelFilter.Batch batch = null;
+
+	private int cellIndex = 0;
+	private PolygonCovering.Cell cell = null;
+	private QueryIterator current = null;
+	private Binding slot = null;
+	private volatile boolean cancelled = false;
+
+	public QueryIterWithinPolygon(Var var, CompiledPolygon polygon, PolygonCovering covering,
+			Graph graph, CoordinateStore store, WithinPolygonMetrics metrics, ExecutionContext execCxt) {
+		super(execCxt);
+		this.var = var;
+		this.polygon = polygon;
+		this.cells = covering.getCells();
+		this.graph = graph;
+		this.store = store;
+		this.root = cells.size() > 1 ? polygon.getEnvelope() : null;
+		this.parallel = ParallelFilter.get(execCxt.getContext());
+		this.metrics = metrics;
+		metrics.cells = cells.size();
+		metrics.interiorCells = covering.getInteriorCellCount();
+	}
+
+	/**
+	 * Queries the spatial index with the bounding box of the cell.
+	 */
+	protected abstract QueryIterator queryCell(PolygonCovering.Cell cell);
+
+	@Override
+	protected boolean hasNextBinding() {
+		if (slot != null)
+			return true;
+		while (true) {
+			if (!ready.isEmpty()) {
+				metrics.results++;
+				slot = ready.poll();
+				return true;
+			}
+			if (batch != null) {
+				long start = System.nanoTime();
+				boolean polled = batch.poll(ready);
+				metrics.testNanos += System.nanoTime() - start;
+				if (polled)
+					continue;
+				batch = null;
+			}
+			if (current == null) {
+				if (cancelled)
+					throw new QueryCancelledException();
+				if (cellIndex >= cells.size())
+					return false;
+				cell = cells.get(cellIndex++);
+				long start = System.nanoTime();
+				current = queryCell(cell);
+				metrics.indexQueries++;
+				metrics.indexNanos += System.nanoTime() - start;
+			}
+			if (parallel != null && !cell.isInterior()) {
+				if (!readBatch()) {
+					current.close();
+					current = null;
+				}
+				continue;
+			}
+			while (current.hasNext()) {
+				Binding b = nextCandidate();
+				if (b == null)
+					continue;
+				boolean accept = true;
+				if (root != null || !cell.isInterior()) {
+					long start = System.nanoTime();
+					accept = IsWithinPolygonPF.getCoordinates(b.get(var), graph, store, latLong) && owned();
+					long lookedUp = System.nanoTime();
+					metrics.lookupNanos += lookedUp - start;
+					if (accept && !cell.isInterior()) {
+						accept = polygon.contains(latLong[0], latLong[1]);
+						metrics.testNanos += System.nanoTime() - lookedUp;
+					}
+				}
+				if (accept && cell.isInterior())
+					metrics.acceptedInterior++;
+				if (accept) {
+					metrics.results++;
+					slot = b;
+					return true;
+				}
+			}
+			current.close();
+			current = null;
+		}
+	}
+
+	// returns the next candidate of the current cell, or null if the subject is not bound
+	private Binding nextCandidate() {
+		if (cancelled)
+			throw new QueryCancelledException();
+		Binding b = current.nextBinding();
+		if (b.get(var) == null)
+			return null;
+		metrics.candidates++;
+		return b;
+	}
+
+	// whether the point in latLong belongs to the current cell rather than to a neighbouring one
+	private boolean owned() {
+		return root == null || PolygonCovering.owns(cell.getEnvelope(), root, latLong[0], latLong[1]);
+	}
+
+	// reads a batch of candidates of the current boundary cell and tests it, in parallel if it is large enough
+	private boolean readBatch() {
+		int size = parallel.getBatchSize();
+		Binding[] bindings = new Binding[Math.min(size, 1024)];
+		double[] lats = new double[bindings.length];
+		double[] longs = new double[bindings.length];
+		int n = 0;
+		boolean read = false;
+		long start = System.nanoTime();
+		while (n < size && current.hasNext()) {
+			read = true;
+			Binding b = nextCandidate();
+			if (b == null || !IsWithinPolygonPF.getCoordinates(b.get(var), graph, store, latLong) || !owned())
+				continue;
+			if (n == bindings.length) {
+				int length = Math.min(size, bindings.length * 2);
+				bindings = Arrays.copyOf(bindings, length);
+				lats = Arrays.copyOf(lats, length);
+				longs = Arrays.copyOf(longs, length);
+			}
+			bindings[n] = b;
+			lats[n] = latLong[0];
+			longs[n] = latLong[1];
+			n++;
+		}
+		long lookedUp = System.nanoTime();
+		metrics.lookupNanos += lookedUp - start;
+		if (n < parallel.getThreshold()) {
+			ParallelFilter.test(polygon, bindings, lats, longs, 0, n, ready);
+			metrics.testNanos += System.nanoTime() - lookedUp;
+		} else {
+			batch = parallel.submit(polygon, bindings, lats, longs, n);
+			metrics.parallelBatches++;
+		}
+		return read;
+	}
+
+	@Override
+	protected Binding moveToNextBinding() {
+		if (!hasNextBinding())
+			throw new NoSuchElementException("QueryIterWithinPolygon");
+		Binding b = slot;
+		slot = null;
+		return b;
+	}
+
+	@Override
+	protected void requestCancel() {
+		cancelled = true;
+		ParallelFilter.Batch b = batch;
+		if (b != null)
+			b.cancel();
+		QueryIterator iter = current;
+		if (iter != null)
+			iter.cancel();
+	}
+
+	@Override
+	protected void closeIterator() {
+		slot = null;
+		ready.clear();
+		if (batch != null) {
+			batch.cancel();
+			batch = null;
+		}
+		if (current != null) {
+			current.close();
+			current = null;
+		}
+		metrics.finish();
+	}
+}
@@ -0,0 +1,187 @@
+package fi.seco.spatial.arq;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.query.QueryCancelledException;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.engine.ExecutionContext;
+import org.apache.jena.sparql.engine.QueryIterator;
+import org.apache.jena.sparql.engine.binding.Binding;
+import org.apache.jena.sparql.engine.iterator.QueryIter1;
+
+/**
+ * Evaluates seco-spatial:withinPolygon over the bindings of the input iterator in blocks,
+ * for a subject bound by the input (e.g. by a preceding join).
+ *
+ * The bound subjects of a block are not searched from the spatial index: their coordinates
+ * are fetched together (under a single lock of the CoordinateStore, if there is one) and
+ * tested against the polygon, in parallel for large blocks in parallel mode (see ParallelFilter).
+ * The bindings with an unbound subject are evaluated one by one with execBinding after the
+ * bound ones of their block, so the results of a block do not keep the order of the input.
+ * A block holds at most batchSize input bindings, bound or not, so the input is read lazily
+ * even if the subject is mostly unbound.
+ *
+ * The counts and times of the bound subjects are recorded into one WithinPolygonMetrics,
+ * which is published when the first bound subject is read and finished when the iterator is closed.
+ */
+public abstract class QueryIterWithinPolygonBatch extends QueryIter1 {
+	public static final int DEFAULT_BATCH_SIZE = 256;
+
+	private final Node subject;
+	private final CompiledPolygon polygon;
+	private final Graph graph;
+	private final CoordinateStore store;
+	private final ParallelFilter parallel;
+	private final WithinPolygonMetrics metrics;
+	private final double[] latLong = new double[2];
+
+	private final Binding[] bindings;
+	private final Node[] subjects;
+	private final double[] lats;
+	private final double[] longs;
+
+	private final ArrayDeque<Binding> ready = new ArrayDeque<Binding>();
+	private final ArrayDeque<Binding> unbound = new ArrayDeque<Binding>();
+	private ParallelFilter.Batch batch = null;
+	private QueryIterator current = null;
+	private boolean published = false;
+	private volatile boolean cancelled = false;
+
+	public QueryIterWithinPolygonBatch(QueryIterator input, Node subject, CompiledPolygon polygon, int batchSize,
+			Graph graph, CoordinateStore store, WithinPolygonMetrics metrics, ExecutionContext execCxt) {
+		super(input, execCxt);
+		this.subject = subject;
+		this.polygon = polygon;
+		this.graph = graph;
+		this.store = store;
+		this.parallel = ParallelFilter.get(execCxt.getContext());
+		this.metrics = metrics;
+		batchSize = Math.max(1, batchSize);
+		this.bindings = new Binding[batchSize];
+		this.subjects = new Node[batchSize];
+		this.lats = new double[batchSize];
+		this.longs = new double[batchSize];
+	}
+
+	/**
+	 * Evaluates the property function for a binding whose subject is unbound.
+	 */
+	protected abstract QueryIterator execBinding(Binding binding);
+
+	@Override
+	protected boolean hasNextBinding() {
+		while (true) {
+			if (!ready.isEmpty())
+				return true;
+			if (current != null) {
+				if (current.hasNext())
+					return true;
+				current.close();
+				current = null;
+			}
+			if (cancelled)
+				throw new QueryCancelledException();
+			if (batch != null) {
+				long start = System.nanoTime();
+				boolean polled = batch.poll(ready);
+				metrics.testNanos += System.nanoTime() - start;
+				if (polled)
+					continue;
+				batch = null;
+			}
+			if (!unbound.isEmpty()) {
+				current = execBinding(unbound.poll());
+				continue;
+			}
+			if (!getInput().hasNext())
+				return false;
+			readBlock();
+		}
+	}
+
+	// reads the next block of input bindings (bound or not), and tests the bound subjects
+	private void readBlock() {
+		int n = 0;
+		for (int read = 0; read < bindings.length && getInput().hasNext(); read++) {
+			Binding b = getInput().nextBinding();
+			Node s = subject.isVariable() ? b.get(Var.alloc(subject)) : subject;
+			if (s == null)
+				unbound.add(b);
+			else if (!s.isLiteral()) {
+				bindings[n] = b;
+				subjects[n] = s;
+				n++;
+			}
+		}
+		if (n == 0)
+			return;
+		if (!published) {
+			metrics.publish(getExecContext().getContext());
+			published = true;
+		}
+		metrics.candidates += n;
+		long start = System.nanoTime();
+		if (store != null)
+			store.getCoordinates(subjects, n, lats, longs);
+		for (int i = 0; i < n; i++) {
+			// subjects not in the store are looked up from the graph
+			if (store == null || Double.isNaN(lats[i])) {
+				boolean found = IsWithinPolygonPF.getCoordinates(subjects[i], graph, null, latLong);
+				lats[i] = found ? latLong[0] : Double.NaN;
+				longs[i] = found ? latLong[1] : Double.NaN;
+			}
+			subjects[i] = null;
+		}
+		long lookedUp = System.nanoTime();
+		metrics.lookupNanos += lookedUp - start;
+		if (parallel != null && n >= parallel.getThreshold()) {
+			// the arrays are not reused before all the chunks of the batch have been polled
+			batch = parallel.submit(polygon, bindings, lats, longs, n);
+			metrics.parallelBatches++;
+		} else {
+			ParallelFilter.test(polygon, bindings, lats, longs, 0, n, ready);
+			metrics.testNanos += System.nanoTime() - lookedUp;
+		}
+	}
+
+	@Override
+	protected Binding moveToNextBinding() {
+		if (!hasNextBinding())
+			throw new NoSuchElementException("QueryIterWithinPolygonBatch");
+		if (!ready.isEmpty()) {
+			metrics.results++;
+			return ready.poll();
+		}
+		return current.nextBinding();
+	}
+
+	@Override
+	protected void requestSubCancel() {
+		cancelled = true;
+		ParallelFilter.Batch b = batch;
+		if (b != null)
+			b.cancel();
+		QueryIterator iter = current;
+		if (iter != null)
+			iter.cancel();
+	}
+
+	@Override
+	protected void closeSubIterator() {
+		ready.clear();
+		unbound.clear();
+		if (batch != null) {
+			batch.cancel();
+			batch = null;
+		}
+		if (current != null) {
+			current.close();
+			current = null;
+		}
+		if (published)
+			metrics.finish();
+	}
+}
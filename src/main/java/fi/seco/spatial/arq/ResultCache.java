@@ -0,0 +1,395 @@
+package fi.seco.spatial.arq;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.sparql.core.GraphView;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.engine.ExecutionContext;
+import org.apache.jena.sparql.engine.QueryIterator;
+import org.apache.jena.sparql.engine.binding.Binding;
+import org.apache.jena.sparql.engine.binding.BindingFactory;
+import org.apache.jena.sparql.engine.iterator.QueryIter;
+import org.apache.jena.sparql.engine.iterator.QueryIter1;
+import org.apache.jena.sparql.util.Context;
+import org.apache.lucene.store.Directory;
+
+/**
+ * Bounded, thread-safe cache of the subjects matching seco-spatial:withinPolygon with a variable
+ * subject, shared between queries, so that repeated queries with the same polygon skip the
+ * spatial index search and the point-in-polygon tests.
+ *
+ * Entries are keyed by (normalized polygon, strategy, Lucene directory of the spatial index,
+ * active graph), so that GRAPH <g> and the default or union graph of the same index (or another
+ * dataset sharing it) have their own results. A graph view of a dataset is identified by the
+ * dataset and the graph name, other graphs by their identity; the directory and the dataset or
+ * graph are only weakly referenced by the keys. Each entry is valid for the commit generation of
+ * the index it was computed at: a commit of a write transaction of the spatial dataset
+ * invalidates the results computed before it.
+ * Spatial indexes other than Lucene ones are not cached. The subjects are stored as sorted
+ * CoordinateStore ids if a coordinate store is registered, otherwise as an array of nodes,
+ * and only the results of fully consumed evaluations are stored.
+ *
+ * Disabled by default, enabled with the context symbol SpatialFunctions.symResultCache.
+ * The total cost of the entries is bounded by SpatialFunctions.symResultCacheSize (least
+ * recently used entries are evicted first): each subject costs 1, and each entry 1 plus the
+ * length of its polygon text, so that empty results and large polygons are bounded too. Entries
+ * expire after
+ * SpatialFunctions.symResultCacheTTL seconds (0 for never).
+ */
+public class ResultCache {
+	public static final int DEFAULT_SIZE = 1000000;
+	public static final int DEFAULT_TTL = 0;
+
+	private static final ResultCache instance = new ResultCache(DEFAULT_SIZE, DEFAULT_TTL);
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	private final LinkedHashMap<Key, Entry> map = new LinkedHashMap<Key, Entry>(16, 0.75f, true);
+	private long maxCost;
+	private long ttlMillis;
+	private long cost = 0;
+
+	public ResultCache(long maxCost, int ttlSeconds) {
+		this.maxCost = maxCost;
+		this.ttlMillis = ttlSeconds * 1000L;
+	}
+
+	/**
+	 * Returns the shared cache.
+	 */
+	public static ResultCache get() {
+		return instance;
+	}
+
+	/**
+	 * Returns the shared cache configured from the given context, or null if the cache is not enabled.
+	 */
+	public static ResultCache get(Context cxt) {
+		if (cxt == null || !cxt.isTrue(SpatialFunctions.symResultCache))
+			return null;
+		instance.configure(cxt.getInt(SpatialFunctions.symResultCacheSize, DEFAULT_SIZE),
+				cxt.getInt(SpatialFunctions.symResultCacheTTL, DEFAULT_TTL));
+		return instance;
+	}
+
+	public synchronized void configure(long maxCost, int ttlSeconds) {
+		this.maxCost = maxCost;
+		this.ttlMillis = ttlSeconds * 1000L;
+		evict();
+	}
+
+	/**
+	 * Returns the key of the results of the polygon in the spatial index and the active graph of
+	 * the execution context, or null if the version of the index cannot be determined (the results
+	 * are then not cached).
+	 */
+	public Key key(CompiledPolygon polygon, String strategy, ExecutionContext execCxt) {
+		Directory dir = SpatialIndexVersion.getDirectory(execCxt);
+		if (dir == null)
+			return null;
+		long generation = SpatialIndexVersion.get(execCxt);
+		if (generation == SpatialIndexVersion.UNKNOWN)
+			return null;
+		Graph g = execCxt.getActiveGraph();
+		// graph views (e.g. of TDB) are created per query, so they are identified by their dataset and name
+		if (g instanceof GraphView)
+			return new Key(polygon.getNormalizedText(), strategy, dir, ((GraphView) g).getDataset(),
+					((GraphView) g).getGraphName(), generation);
+		return new Key(polygon.getNormalizedText(), strategy, dir, g, null, generation);
+	}
+
+	/**
+	 * Returns the cached results for the key, binding them to var in parent, or null if they are
+	 * not cached (or have been invalidated by a commit or expired). The metrics are finished
+	 * when the returned iterator is closed.
+	 */
+	public QueryIterator lookup(Key key, Binding parent, Var var, CoordinateStore store,
+			WithinPolygonMetrics metrics, ExecutionContext execCxt) {
+		Entry entry;
+		synchronized (this) {
+			entry = map.get(key);
+			if (entry != null && (entry.generation != key.generation || expired(entry)
+					|| (entry.ids != null && entry.store != store))) {
+				remove(key);
+				invalidations.incrementAndGet();
+				entry = null;
+			}
+		}
+		if (entry == null) {
+			misses.incrementAndGet();
+			return null;
+		}
+		hits.incrementAndGet();
+		metrics.resultCacheHit = true;
+		return new QueryIterCached(entry, parent, var, metrics, execCxt);
+	}
+
+	/**
+	 * Wraps the iterator of the results for the key, so that the results are stored into the cache
+	 * once the iterator has been fully consumed.
+	 */
+	public QueryIterator fill(Key key, QueryIterator results, Var var, CoordinateStore store, ExecutionContext execCxt) {
+		return new QueryIterCacheFill(key, results, var, store, execCxt);
+	}
+
+	private synchronized void put(Key key, Entry entry) {
+		if (entry.cost > maxCost)
+			return;
+		remove(key);
+		map.put(key, entry);
+		cost += entry.cost;
+		evict();
+	}
+
+	private void remove(Key key) {
+		Entry old = map.remove(key);
+		if (old != null)
+			cost -= old.cost;
+	}
+
+	// called with the lock held
+	private void evict() {
+		Iterator<Entry> iter = map.values().iterator();
+		while (cost > maxCost && iter.hasNext()) {
+			cost -= iter.next().cost;
+			iter.remove();
+			evictions.incrementAndGet();
+		}
+	}
+
+	private boolean expired(Entry entry) {
+		return ttlMillis > 0 && System.currentTimeMillis() - entry.created > ttlMillis;
+	}
+
+	/**
+	 * Drops all the cached results, e.g. after updating the dataset without a commit of the index.
+	 */
+	public synchronized void invalidateAll() {
+		invalidations.addAndGet(map.size());
+		map.clear();
+		cost = 0;
+	}
+
+	public synchronized int size() {
+		return map.size();
+	}
+
+	/**
+	 * Returns the total cost of the entries: the number of subjects, plus 1 and the length of
+	 * the polygon text for each entry.
+	 */
+	public synchronized long getCost() {
+		return cost;
+	}
+
+	public synchronized long getMaxCost() {
+		return maxCost;
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	public long getInvalidations() {
+		return invalidations.get();
+	}
+
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	/**
+	 * Key of the results of a polygon in a spatial index and a graph (the graph object, or the
+	 * dataset and the name of a graph view, null for the default graph). The directory and the
+	 * graph are compared by identity and referenced weakly, so a key of a closed index or dataset
+	 * no longer matches and its entry is evicted in time. The commit generation of the index is
+	 * not part of the identity of the key, it is compared to the generation of the entry.
+	 */
+	public static final class Key {
+		private final String polygon;
+		private final String strategy;
+		private final WeakReference<Directory> dir;
+		private final WeakReference<Object> graph;
+		private final Node graphName;
+		private final long generation;
+		private final int hash;
+
+		Key(String polygon, String strategy, Directory dir, Object graph, Node graphName, long generation) {
+			this.polygon = polygon;
+			this.strategy = strategy;
+			this.dir = new WeakReference<Directory>(dir);
+			this.graph = new WeakReference<Object>(graph);
+			this.graphName = graphName;
+			this.generation = generation;
+			int h = polygon.hashCode();
+			h = 31 * h + strategy.hashCode();
+			h = 31 * h + System.identityHashCode(dir);
+			h = 31 * h + System.identityHashCode(graph);
+			this.hash = 31 * h + (graphName != null ? graphName.hashCode() : 0);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+			if (!(o instanceof Key))
+				return false;
+			Key k = (Key) o;
+			Directory d = dir.get();
+			Object g = graph.get();
+			return hash == k.hash && d != null && d == k.dir.get() && g != null && g == k.graph.get()
+					&& (graphName == null ? k.graphName == null : graphName.equals(k.graphName))
+					&& strategy.equals(k.strategy)
+					&& polygon.equals(k.polygon);
+		}
+	}
+
+	// the subjects either as sorted ids of the coordinate store or as nodes
+	private static final class Entry {
+		final long generation;
+		final long created = System.currentTimeMillis();
+		final CoordinateStore store;
+		final int[] ids;
+		final Node[] nodes;
+		final long cost;
+
+		Entry(Key key, CoordinateStore store, int[] ids, Node[] nodes) {
+			this.generation = key.generation;
+			this.store = store;
+			this.ids = ids;
+			this.nodes = nodes;
+			this.cost = 1 + key.polygon.length() + size();
+		}
+
+		int size() {
+			return ids != null ? ids.length : nodes.length;
+		}
+
+		Node get(int i) {
+			return ids != null ? store.getNode(ids[i]) : nodes[i];
+		}
+	}
+
+	private static class QueryIterCached extends QueryIter {
+		private final Entry entry;
+		private final Binding parent;
+		private final Var var;
+		private final WithinPolygonMetrics metrics;
+		private int index = 0;
+
+		QueryIterCached(Entry entry, Binding parent, Var var, WithinPolygonMetrics metrics, ExecutionContext execCxt) {
+			super(execCxt);
+			this.entry = entry;
+			this.parent = parent;
+			this.var = var;
+			this.metrics = metrics;
+		}
+
+		@Override
+		protected boolean hasNextBinding() {
+			return index < entry.size();
+		}
+
+		@Override
+		protected Binding moveToNextBinding() {
+			if (!hasNextBinding())
+				throw new NoSuchElementException("QueryIterCached");
+			metrics.results++;
+			return BindingFactory.binding(parent, var, entry.get(index++));
+		}
+
+		@Override
+		protected void requestCancel() {
+		}
+
+		@Override
+		protected void closeIterator() {
+			metrics.finish();
+		}
+	}
+
+	private class QueryIterCacheFill extends QueryIter1 {
+		private final Key key;
+		private final Var var;
+		private final CoordinateStore store;
+		private final long max;
+		private List<Node> subjects = new ArrayList<Node>();
+
+		QueryIterCacheFill(Key key, QueryIterator input, Var var, CoordinateStore store, ExecutionContext execCxt) {
+			super(input, execCxt);
+			this.key = key;
+			this.var = var;
+			this.store = store;
+			this.max = getMaxCost();
+		}
+
+		@Override
+		protected boolean hasNextBinding() {
+			if (getInput().hasNext())
+				return true;
+			if (subjects != null) {
+				put(key, toEntry());
+				subjects = null;
+			}
+			return false;
+		}
+
+		@Override
+		protected Binding moveToNextBinding() {
+			Binding b = getInput().nextBinding();
+			if (subjects != null) {
+				// too many results to be cached
+				if (subjects.size() >= max)
+					subjects = null;
+				else
+					subjects.add(b.get(var));
+			}
+			return b;
+		}
+
+		private Entry toEntry() {
+			if (store != null) {
+				int[] ids = new int[subjects.size()];
+				for (int i = 0; i < ids.length; i++) {
+					ids[i] = store.getId(subjects.get(i));
+					if (ids[i] < 0)
+						return new Entry(key, null, null, subjects.toArray(new Node[subjects.size()]));
+				}
+				Arrays.sort(ids);
+				return new Entry(key, store, ids, null);
+			}
+			return new Entry(key, null, null, subjects.toArray(new Node[subjects.size()]));
+		}
+
+		@Override
+		protected void requestSubCancel() {
+		}
+
+		@Override
+		protected void closeSubIterator() {
+			// results of an evaluation that was not fully consumed (e.g. LIMIT) are not cached
+			subjects = null;
+		}
+	}
+}
@@ -1,21 +1,64 @@
-	package fi.seco.spatial.arq;
+package fi.seco.spatial.arq;
 
 import org.apache.jena.sparql.pfunction.PropertyFunction;
 import org.apache.jena.sparql.pfunction.PropertyFunctionFactory;
 import org.apache.jena.sparql.pfunction.PropertyFunctionRegistry;
+import org.apache.jena.sparql.util.Symbol;
 
 public class SpatialFunctions {
 	
+	public static final String NS = "http://www.seco.tkk.fi/spatial#";
+	
+	/** Maximum number of compiled polygons kept in the PolygonCache (default 1000, 0 disables caching) */
+	public static final Symbol symPolygonCacheSize = Symbol.create(NS + "polygonCacheSize");
+	/** Eviction policy of the PolygonCache: "lru" (default) or "fifo" */
+	public static final Symbol symPolygonCacheEviction = Symbol.create(NS + "polygonCacheEviction");
+	/** Tolerance in degrees for simplifying the polygons for a coarse test of the points far from the boundary (default 0, no simplification), see CompiledPolygon */
+	public static final Symbol symSimplifyTolerance = Symbol.create(NS + "simplifyTolerance");
+	/** Depth of the quadtree covering of the polygon queried from the spatial index cell by cell (default 2, 0 queries only the bounding box) */
+	public static final Symbol symCoveringDepth = Symbol.create(NS + "coveringDepth");
+	/** Query strategy of withinPolygon: "cells" (default) or "native" (polygon query, if the index uses a JTS spatial context) */
+	public static final Symbol symStrategy = Symbol.create(NS + "strategy");
+	/** Cache the subjects matching withinPolygon between queries (default false), see ResultCache */
+	public static final Symbol symResultCache = Symbol.create(NS + "resultCache");
+	/** Maximum total cost of the ResultCache entries: subjects, plus 1 and the polygon length per entry (default 1000000) */
+	public static final Symbol symResultCacheSize = Symbol.create(NS + "resultCacheSize");
+	/** Time to live of the ResultCache entries in seconds (default 0, no expiry) */
+	public static final Symbol symResultCacheTTL = Symbol.create(NS + "resultCacheTTL");
+	/** Number of input bindings whose bound subjects are tested at a time by withinPolygon (default 256), see QueryIterWithinPolygonBatch */
+	public static final Symbol symBoundBatchSize = Symbol.create(NS + "boundBatchSize");
+	/** Test large candidate sets in parallel (default false), see ParallelFilter */
+	public static final Symbol symParallel = Symbol.create(NS + "parallel");
+	/** Number of threads of the parallel mode (default: number of processors) */
+	public static final Symbol symParallelism = Symbol.create(NS + "parallelism");
+	/** Minimum number of candidates tested in parallel (default 2048) */
+	public static final Symbol symParallelThreshold = Symbol.create(NS + "parallelThreshold");
+	/** Maximum number of candidates read and tested at a time in parallel mode (default 65536) */
+	public static final Symbol symParallelBatchSize = Symbol.create(NS + "parallelBatchSize");
+	/** Keep the original order of the candidates in parallel mode (default true) */
+	public static final Symbol symParallelOrdered = Symbol.create(NS + "parallelOrdered");
+	/** Execution metrics of the withinPolygon evaluations of a query, set by the property function (a List of WithinPolygonMetrics) */
+	public static final Symbol symMetrics = Symbol.create(NS + "metrics");
+	/** CoordinateStore used for fetching the coordinates of the candidates instead of the graph (optional) */
+	public static final Symbol symCoordinateStore = Symbol.create(NS + "coordinateStore");
+	
 	static {
 		init();
 	}
 	
     public static void init() {
-		PropertyFunctionRegistry.get().put("http://www.seco.tkk.fi/spatial#withinPolygon", new PropertyFunctionFactory() {
+		WithinPolygonStats.register();
+		PropertyFunctionRegistry.get().put(NS + "withinPolygon", new PropertyFunctionFactory() {
             @Override
             public PropertyFunction create(String uri) {
                 return new IsWithinPolygonPF();
             }
+        });		
+		PropertyFunctionRegistry.get().put(NS + "withinPolygonJoin", new PropertyFunctionFactory() {
+            @Override
+            public PropertyFunction create(String uri) {
+                return new WithinPolygonJoinPF();
+            }
         });		
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,130 @@
+package fi.seco.spatial.arq;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.jena.query.spatial.DatasetGraphSpatial;
+import org.apache.jena.query.spatial.SpatialIndexLucene;
+import org.apache.jena.query.spatial.SpatialQuery;
+import org.apache.jena.sparql.ARQConstants;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.sparql.engine.ExecutionContext;
+import org.apache.jena.sparql.util.Context;
+import org.apache.jena.sparql.util.Symbol;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The version of the Lucene spatial index of a query: the generation of its last commit, which
+ * changes with every commit of a write transaction of the spatial dataset. Used for noticing that
+ * data derived from the dataset (CoordinateStore, ResultCache) is out of date.
+ *
+ * The version is read once per query execution (listing the index directory for every binding
+ * would be too slow) and remembered in the context of the execution, so a commit made while a
+ * query runs is noticed by the next query.
+ */
+class SpatialIndexVersion {
+	/** The version of an index that cannot be determined */
+	static final long UNKNOWN = -1;
+
+	private static final Logger log = LoggerFactory.getLogger(SpatialIndexVersion.class);
+
+	// the version read by the current query execution
+	private static final Symbol symVersion = Symbol.create(SpatialFunctions.NS + "indexVersion");
+
+	private static class Resolved {
+		final Object query;
+		final Context cxt;
+		final long version;
+
+		Resolved(Object query, Context cxt, long version) {
+			this.query = query;
+			this.cxt = cxt;
+			this.version = version;
+		}
+	}
+
+	private SpatialIndexVersion() {
+	}
+
+	/**
+	 * Returns the Lucene directory of the spatial index of the execution context, or null if
+	 * the index is not a Lucene one.
+	 */
+	static Directory getDirectory(ExecutionContext execCxt) {
+		Object index = execCxt.getContext().get(SpatialQuery.spatialIndex);
+		if (index == null) {
+			DatasetGraph dsg = execCxt.getDataset();
+			if (dsg instanceof DatasetGraphSpatial)
+				index = ((DatasetGraphSpatial) dsg).getSpatialIndex();
+		}
+		return getDirectory(index);
+	}
+
+	/**
+	 * Returns the Lucene directory of the spatial index registered in the context (e.g. the
+	 * context of a spatial dataset), or null.
+	 */
+	static Directory getDirectory(Context cxt) {
+		return cxt != null ? getDirectory(cxt.get(SpatialQuery.spatialIndex)) : null;
+	}
+
+	private static Directory getDirectory(Object index) {
+		if (index instanceof SpatialIndexLucene)
+			return ((SpatialIndexLucene) index).getDirectory();
+		return null;
+	}
+
+	/**
+	 * Returns the commit generation of the index in the directory, or UNKNOWN.
+	 */
+	static long getGeneration(Directory dir) {
+		try {
+			return SegmentInfos.getLastCommitGeneration(dir);
+		} catch (IOException e) {
+			log.warn("Could not read the commit generation of the spatial index: " + e.getMessage());
+			return UNKNOWN;
+		}
+	}
+
+	/**
+	 * Returns the commit generation of the Lucene index in the file system directory, or UNKNOWN.
+	 */
+	static long getGeneration(File dir) {
+		try {
+			Directory directory = FSDirectory.open(dir);
+			try {
+				return SegmentInfos.getLastCommitGeneration(directory);
+			} finally {
+				directory.close();
+			}
+		} catch (IOException e) {
+			log.warn("Could not read the commit generation of the spatial index in " + dir + ": " + e.getMessage());
+			return UNKNOWN;
+		}
+	}
+
+	/**
+	 * Returns the version of the spatial index of the execution context, or UNKNOWN. The version is
+	 * read once per query execution, an execution context without a current query reads it on every
+	 * call.
+	 */
+	static long get(ExecutionContext execCxt) {
+		Context cxt = execCxt.getContext();
+		Object query = cxt.get(ARQConstants.sysCurrentQuery);
+		if (query != null) {
+			// the context of an execution is a copy, a version copied from another context is not used
+			Object o = cxt.get(symVersion);
+			if (o instanceof Resolved && ((Resolved) o).query == query && ((Resolved) o).cxt == cxt)
+				return ((Resolved) o).version;
+		}
+		Directory dir = getDirectory(execCxt);
+		long version = dir != null ? getGeneration(dir) : UNKNOWN;
+		if (query != null)
+			cxt.set(symVersion, new Resolved(query, cxt, version));
+		return version;
+	}
+}
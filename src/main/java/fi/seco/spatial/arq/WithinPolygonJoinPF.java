@@ -0,0 +1,407 @@
+package fi.seco.spatial.arq;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.query.QueryBuildException;
+import org.apache.jena.query.QueryCancelledException;
+import org.apache.jena.query.spatial.pfunction.SpatialOperationWithBoxPFBase;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.engine.ExecutionContext;
+import org.apache.jena.sparql.engine.QueryIterator;
+import org.apache.jena.sparql.engine.binding.Binding;
+import org.apache.jena.sparql.engine.binding.BindingFactory;
+import org.apache.jena.sparql.engine.binding.BindingRoot;
+import org.apache.jena.sparql.engine.iterator.QueryIter;
+import org.apache.jena.sparql.pfunction.PropFuncArg;
+import org.apache.jena.sparql.util.Context;
+import org.apache.lucene.spatial.query.SpatialOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.index.strtree.STRtree;
+
+/**
+ * Property function for joining many geo points (WGS84) with many polygons in one pass.
+ *
+ * The polygon is given as in seco-spatial:withinPolygon, but it is usually a variable bound
+ * by a preceding pattern. All the incoming bindings are collected first and grouped by their
+ * distinct polygons, then a binding is emitted for each (point, polygon) pair.
+ *
+ * If a CoordinateStore built from the active graph is registered in the context, the polygons
+ * are put into an STR-tree by their envelopes, and the points of the store inside the envelope
+ * of all the polygons are streamed through the tree once. So the cost is proportional to the
+ * number of points plus the number of polygons rather than to their product.
+ *
+ * Otherwise the spatial index is queried with the envelope of each polygon in turn, and its hits
+ * are tested against that polygon only (no tree is needed, as each hit has a single candidate).
+ * The coordinates of the hits are read from the active graph, so hits outside it are dropped.
+ * The index returns at most INDEX_LIMIT hits per query, so a box with that many hits is split
+ * into quadrants that are queried separately.
+ *
+ * If the subject is bound, its point is tested directly.
+ *
+ * Usage:
+ *
+ *  ?place seco-spatial:withinPolygonJoin ?polygon
+ *  OR
+ *  ?place seco-spatial:withinPolygonJoin (?polygon ['delimiter_point'] ['delimiter_longlat'] [lat_long])
+ *
+ * Example (municipality of each place):
+ *
+ *  ?kunta sapo:hasPolygon ?polygon .
+ *  ?place seco-spatial:withinPolygonJoin (?polygon ' ' ',')
+ *
+ * Bindings whose polygon is not a valid polygon literal are skipped (with a warning).
+ *
+ * seco-spatial:withinPolygon switches to this join when its object contains a variable.
+ */
+public class WithinPolygonJoinPF extends SpatialOperationWithBoxPFBase {
+	private static final Logger log = LoggerFactory.getLogger(WithinPolygonJoinPF.class);
+
+	/** Maximum number of hits of one query of the spatial index (the default limit of the Lucene index) */
+	public static final int INDEX_LIMIT = 10000;
+	// boxes with INDEX_LIMIT hits are split at most this many times (to ~1/65536 of the polygon envelope)
+	private static final int MAX_SPLIT_DEPTH = 8;
+
+	// the polygon is not a bounding box, so the base class is built with the whole world
+	private static final PropFuncArg WORLD_BBOX = IsWithinPolygonPF.toBBox(new Envelope(-90, 90, -180, 180));
+
+	@Override
+	protected SpatialOperation getSpatialOperation() {
+		return SpatialOperation.IsWithin;
+	}
+
+	@Override
+	public void build(PropFuncArg argSubject, Node predicate,
+			PropFuncArg argObject, ExecutionContext execCxt) {
+		if (!argSubject.isNode())
+			throw new QueryBuildException("Subject is not a single node: "
+					+ argSubject);
+		if (argObject.isList()) {
+			List<Node> args = argObject.getArgList();
+			if (args.isEmpty() || args.size() > 4)
+				throw new QueryBuildException("Expected 1 to 4 arguments (polygon ['delimiter_point'] ['delimiter_longlat'] [lat_long]): "
+						+ argObject);
+			for (Node arg : args)
+				checkArgument(arg);
+		}
+		else
+			checkArgument(argObject.getArg());
+		super.build(argSubject, predicate, WORLD_BBOX, execCxt);
+	}
+
+	private static void checkArgument(Node arg) {
+		if (!arg.isVariable() && !arg.isLiteral())
+			throw new QueryBuildException("Polygon argument is not a literal or a variable: " + arg);
+	}
+
+	@Override
+	public QueryIterator exec(QueryIterator input, PropFuncArg argSubject,
+			Node predicate, PropFuncArg argObject, ExecutionContext execCxt) {
+		Context cxt = execCxt.getContext();
+		Graph g = execCxt.getActiveGraph();
+		CoordinateStore store = CoordinateStore.get(execCxt);
+		Node subj = argSubject.getArg();
+		Var var = subj.isVariable() ? Var.alloc(subj) : null;
+
+		// collect the polygons of the incoming bindings
+		IdentityHashMap<CompiledPolygon, PolygonEntry> entries = new IdentityHashMap<CompiledPolygon, PolygonEntry>();
+		List<Binding> boundResults = new ArrayList<Binding>();
+		int invalid = 0;
+		try {
+			while (input.hasNext()) {
+				Binding b = input.nextBinding();
+				CompiledPolygon polygon;
+				try {
+					polygon = IsWithinPolygonPF.compilePolygon(argObject, b, cxt);
+				} catch (IllegalArgumentException e) {
+					// a polygon from the data, skip the binding instead of failing the whole query
+					if (invalid++ == 0)
+						log.warn("Skipping a binding with an invalid polygon: " + e.getMessage());
+					continue;
+				}
+				if (polygon == null)
+					continue;
+				Node s = var == null ? subj : b.get(var);
+				if (s != null) {
+					// bound subject, test its point directly
+					if (!s.isLiteral() && IsWithinPolygonPF.isWithin(s, g, store, polygon))
+						boundResults.add(b);
+					continue;
+				}
+				PolygonEntry entry = entries.get(polygon);
+				if (entry == null) {
+					entry = new PolygonEntry(polygon);
+					entries.put(polygon, entry);
+				}
+				entry.bindings.add(b);
+			}
+		} finally {
+			input.close();
+		}
+		if (invalid > 1)
+			log.warn("Skipped " + invalid + " bindings with an invalid polygon");
+
+		if (entries.isEmpty())
+			return new QueryIterJoin(boundResults, null, null, execCxt);
+
+		PointSource points;
+		if (store != null)
+			points = new StorePointSource(store, entries.values());
+		else
+			points = new IndexPointSource(entries.values().iterator(), argSubject, predicate, var, g, execCxt);
+		return new QueryIterJoin(boundResults, points, var, execCxt);
+	}
+
+	private QueryIterator queryBox(PropFuncArg argSubject, Node predicate, Envelope box, ExecutionContext execCxt) {
+		return super.exec(BindingRoot.create(), argSubject, predicate, IsWithinPolygonPF.toBBox(box, INDEX_LIMIT), execCxt);
+	}
+
+	private static class PolygonEntry {
+		final CompiledPolygon polygon;
+		final List<Binding> bindings = new ArrayList<Binding>();
+
+		PolygonEntry(CompiledPolygon polygon) {
+			this.polygon = polygon;
+		}
+	}
+
+	/**
+	 * Streams the points with their coordinates and the polygons each may be inside of.
+	 */
+	private static abstract class PointSource {
+		Node node;
+		final double[] latLong = new double[2];
+
+		abstract boolean next();
+
+		// the polygons the current point may be inside of
+		abstract List<?> candidates();
+
+		void cancel() {
+		}
+
+		void close() {
+		}
+	}
+
+	/**
+	 * Streams the points of the store inside the envelope of all the polygons through an STR-tree
+	 * of the polygons.
+	 */
+	private static class StorePointSource extends PointSource {
+		private final CoordinateStore store;
+		private final STRtree tree = new STRtree();
+		private final Envelope envelope = new Envelope();
+		private final int size;
+		private int id = 0;
+
+		StorePointSource(CoordinateStore store, Collection<PolygonEntry> entries) {
+			this.store = store;
+			for (PolygonEntry entry : entries) {
+				tree.insert(entry.polygon.getEnvelope(), entry);
+				envelope.expandToInclude(entry.polygon.getEnvelope());
+			}
+			tree.build();
+			this.size = store.size();
+		}
+
+		@Override
+		boolean next() {
+			while (id < size) {
+				int i = id++;
+				if (store.getCoordinates(i, latLong) && envelope.contains(latLong[0], latLong[1])) {
+					node = store.getNode(i);
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		List<?> candidates() {
+			return tree.query(new Envelope(latLong[0], latLong[0], latLong[1], latLong[1]));
+		}
+	}
+
+	/**
+	 * Queries the spatial index with the envelope of each polygon in turn. A box with INDEX_LIMIT
+	 * hits may have been truncated, so it is split into quadrants that are queried instead.
+	 * The quadrants share their edges, so a point is passed on only by the box owning it.
+	 * The only candidate of a hit is the polygon whose envelope is being queried.
+	 */
+	private class IndexPointSource extends PointSource {
+		private final Iterator<PolygonEntry> entries;
+		private final PropFuncArg argSubject;
+		private final Node predicate;
+		private final Var var;
+		private final Graph graph;
+		private final ExecutionContext execCxt;
+		private final ArrayDeque<Envelope> boxes = new ArrayDeque<Envelope>();
+		private final ArrayDeque<Integer> depths = new ArrayDeque<Integer>();
+		private final List<Node> hits = new ArrayList<Node>();
+		private int hitIndex = 0;
+		private PolygonEntry entry = null;
+		private Envelope box = null;
+		private QueryIterator qIter = null;
+		private volatile boolean cancelled = false;
+
+		IndexPointSource(Iterator<PolygonEntry> entries, PropFuncArg argSubject, Node predicate,
+				Var var, Graph graph, ExecutionContext execCxt) {
+			this.entries = entries;
+			this.argSubject = argSubject;
+			this.predicate = predicate;
+			this.var = var;
+			this.graph = graph;
+			this.execCxt = execCxt;
+		}
+
+		@Override
+		boolean next() {
+			while (true) {
+				while (hitIndex < hits.size()) {
+					Node n = hits.get(hitIndex++);
+					if (IsWithinPolygonPF.getCoordinates(n, graph, null, latLong)
+							&& PolygonCovering.owns(box, entry.polygon.getEnvelope(), latLong[0], latLong[1])) {
+						node = n;
+						return true;
+					}
+				}
+				hits.clear();
+				hitIndex = 0;
+				if (boxes.isEmpty()) {
+					if (!entries.hasNext())
+						return false;
+					entry = entries.next();
+					boxes.add(entry.polygon.getEnvelope());
+					depths.add(0);
+				}
+				box = boxes.poll();
+				int depth = depths.poll();
+				readHits();
+				if (hits.size() >= INDEX_LIMIT) {
+					if (depth < MAX_SPLIT_DEPTH && box.getWidth() > 0 && box.getHeight() > 0) {
+						split(box, depth + 1);
+						hits.clear();
+					} else
+						log.warn("More than " + INDEX_LIMIT + " points in " + box + ", the results of withinPolygonJoin are incomplete. "
+								+ "Register a CoordinateStore for joining with large point sets.");
+				}
+			}
+		}
+
+		private void readHits() {
+			qIter = queryBox(argSubject, predicate, box, execCxt);
+			try {
+				while (qIter.hasNext()) {
+					if (cancelled)
+						throw new QueryCancelledException();
+					Node n = qIter.nextBinding().get(var);
+					if (n != null)
+						hits.add(n);
+				}
+			} finally {
+				qIter.close();
+				qIter = null;
+			}
+		}
+
+		private void split(Envelope env, int depth) {
+			double midX = (env.getMinX() + env.getMaxX()) / 2;
+			double midY = (env.getMinY() + env.getMaxY()) / 2;
+			boxes.addFirst(new Envelope(env.getMinX(), midX, env.getMinY(), midY));
+			boxes.addFirst(new Envelope(midX, env.getMaxX(), env.getMinY(), midY));
+			boxes.addFirst(new Envelope(env.getMinX(), midX, midY, env.getMaxY()));
+			boxes.addFirst(new Envelope(midX, env.getMaxX(), midY, env.getMaxY()));
+			for (int i = 0; i < 4; i++)
+				depths.addFirst(depth);
+		}
+
+		@Override
+		List<?> candidates() {
+			return Collections.singletonList(entry);
+		}
+
+		@Override
+		void cancel() {
+			cancelled = true;
+			QueryIterator iter = qIter;
+			if (iter != null)
+				iter.cancel();
+		}
+	}
+
+	/**
+	 * Emits the bindings with a bound subject inside their polygon, then tests the streamed
+	 * points against their candidate polygons.
+	 */
+	private static class QueryIterJoin extends QueryIter {
+		private final Iterator<Binding> boundResults;
+		private final PointSource points;
+		private final Var var;
+		private final ArrayDeque<Binding> pending = new ArrayDeque<Binding>();
+		private volatile boolean cancelled = false;
+
+		QueryIterJoin(List<Binding> boundResults, PointSource points, Var var, ExecutionContext execCxt) {
+			super(execCxt);
+			this.boundResults = boundResults.iterator();
+			this.points = points;
+			this.var = var;
+		}
+
+		@Override
+		protected boolean hasNextBinding() {
+			if (!pending.isEmpty() || boundResults.hasNext())
+				return true;
+			if (points == null)
+				return false;
+			while (points.next()) {
+				if (cancelled)
+					throw new QueryCancelledException();
+				double latD = points.latLong[0];
+				double longD = points.latLong[1];
+				List<?> candidates = points.candidates();
+				for (Object o : candidates) {
+					PolygonEntry entry = (PolygonEntry) o;
+					if (entry.polygon.contains(latD, longD))
+						for (Binding parent : entry.bindings)
+							pending.add(BindingFactory.binding(parent, var, points.node));
+				}
+				if (!pending.isEmpty())
+					return true;
+			}
+			return false;
+		}
+
+		@Override
+		protected Binding moveToNextBinding() {
+			if (boundResults.hasNext())
+				return boundResults.next();
+			hasNextBinding();
+			return pending.remove();
+		}
+
+		@Override
+		protected void requestCancel() {
+			cancelled = true;
+			if (points != null)
+				points.cancel();
+		}
+
+		@Override
+		protected void closeIterator() {
+			pending.clear();
+			if (points != null)
+				points.close();
+		}
+	}
+}
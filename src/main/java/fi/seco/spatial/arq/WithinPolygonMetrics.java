@@ -0,0 +1,153 @@
+package fi.seco.spatial.arq;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.jena.sparql.util.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Execution metrics of one evaluation of seco-spatial:withinPolygon: the size and parse time
+ * of the polygon, whether the results came from the ResultCache, the number of index queries and candidates, the number of results, and the
+ * time spent in each phase (index search, coordinate lookups, point-in-polygon tests).
+ *
+ * The metrics of a query are published in its context under SpatialFunctions.symMetrics
+ * (a list, one entry per evaluation, at most 1000), logged at debug level, and aggregated into WithinPolygonStats.
+ */
+public class WithinPolygonMetrics {
+	private static final Logger log = LoggerFactory.getLogger(WithinPolygonMetrics.class);
+
+	// per query, e.g. when the property function is evaluated once per binding of a join
+	private static final int MAX_PUBLISHED = 1000;
+
+	private final long startNanos = System.nanoTime();
+
+	final String strategy;
+	int vertices;
+	long parseNanos;
+	boolean polygonCacheHit;
+	boolean resultCacheHit;
+	int cells;
+	int interiorCells;
+	long indexQueries;
+	long indexNanos;
+	long candidates;
+	long acceptedInterior;
+	long lookupNanos;
+	long testNanos;
+	long parallelBatches;
+	long results;
+	long totalNanos;
+
+	WithinPolygonMetrics(CompiledPolygon polygon, long parseNanos, boolean polygonCacheHit, String strategy) {
+		this.strategy = strategy;
+		this.vertices = polygon.getPolygon().getNumPoints();
+		this.parseNanos = parseNanos;
+		this.polygonCacheHit = polygonCacheHit;
+	}
+
+	/**
+	 * Adds the metrics to the list in the context.
+	 */
+	@SuppressWarnings("unchecked")
+	void publish(Context cxt) {
+		if (cxt == null)
+			return;
+		List<WithinPolygonMetrics> list;
+		synchronized (cxt) {
+			list = (List<WithinPolygonMetrics>) cxt.get(SpatialFunctions.symMetrics);
+			if (list == null) {
+				list = Collections.synchronizedList(new ArrayList<WithinPolygonMetrics>());
+				cxt.set(SpatialFunctions.symMetrics, list);
+			}
+		}
+		if (list.size() < MAX_PUBLISHED)
+			list.add(this);
+	}
+
+	/**
+	 * Marks the evaluation finished and records it into the aggregate statistics.
+	 */
+	void finish() {
+		totalNanos = System.nanoTime() - startNanos;
+		WithinPolygonStats.get().record(this);
+		if (log.isDebugEnabled())
+			log.debug(toString());
+	}
+
+	public String getStrategy() {
+		return strategy;
+	}
+
+	public int getVertices() {
+		return vertices;
+	}
+
+	public long getParseNanos() {
+		return parseNanos;
+	}
+
+	public boolean isPolygonCacheHit() {
+		return polygonCacheHit;
+	}
+
+	public boolean isResultCacheHit() {
+		return resultCacheHit;
+	}
+
+	public int getCells() {
+		return cells;
+	}
+
+	public int getInteriorCells() {
+		return interiorCells;
+	}
+
+	public long getIndexQueries() {
+		return indexQueries;
+	}
+
+	public long getIndexNanos() {
+		return indexNanos;
+	}
+
+	public long getCandidates() {
+		return candidates;
+	}
+
+	public long getAcceptedInterior() {
+		return acceptedInterior;
+	}
+
+	public long getLookupNanos() {
+		return lookupNanos;
+	}
+
+	public long getTestNanos() {
+		return testNanos;
+	}
+
+	public long getParallelBatches() {
+		return parallelBatches;
+	}
+
+	public long getResults() {
+		return results;
+	}
+
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(Locale.ROOT,
+				"withinPolygon (%s strategy): %d vertices, parse %.3f ms (polygon cache %s), result cache %s, %d index queries over %d cells (%d interior) %.3f ms, "
+				+ "%d candidates (%d from interior cells), lookup %.3f ms, test %.3f ms (%d parallel batches), %d results, total %.3f ms",
+				strategy, vertices, parseNanos / 1e6, polygonCacheHit ? "hit" : "miss", resultCacheHit ? "hit" : "miss", indexQueries, cells, interiorCells, indexNanos / 1e6,
+				candidates, acceptedInterior, lookupNanos / 1e6, testNanos / 1e6, parallelBatches, results, totalNanos / 1e6);
+	}
+}
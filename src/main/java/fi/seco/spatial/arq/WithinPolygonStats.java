@@ -0,0 +1,216 @@
+package fi.seco.spatial.arq;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Execution statistics of seco-spatial:withinPolygon aggregated over all queries:
+ * counters and latency histograms per phase (see WithinPolygonMetrics).
+ * Registered as the MBean fi.seco.spatial.arq:type=WithinPolygonStats by SpatialFunctions.init().
+ */
+public class WithinPolygonStats implements WithinPolygonStatsMBean {
+	public static final String OBJECT_NAME = "fi.seco.spatial.arq:type=WithinPolygonStats";
+
+	private static final Logger log = LoggerFactory.getLogger(WithinPolygonStats.class);
+	private static final WithinPolygonStats instance = new WithinPolygonStats();
+
+	private final AtomicLong executions = new AtomicLong();
+	private final AtomicLong nativeExecutions = new AtomicLong();
+	private final AtomicLong resultCacheHits = new AtomicLong();
+	private final AtomicLong polygonsParsed = new AtomicLong();
+	private final AtomicLong polygonCacheHits = new AtomicLong();
+	private final AtomicLong indexQueries = new AtomicLong();
+	private final AtomicLong candidates = new AtomicLong();
+	private final AtomicLong acceptedInterior = new AtomicLong();
+	private final AtomicLong results = new AtomicLong();
+
+	private final LatencyHistogram parseTime = new LatencyHistogram();
+	private final LatencyHistogram indexTime = new LatencyHistogram();
+	private final LatencyHistogram lookupTime = new LatencyHistogram();
+	private final LatencyHistogram testTime = new LatencyHistogram();
+	private final LatencyHistogram totalTime = new LatencyHistogram();
+
+	public static WithinPolygonStats get() {
+		return instance;
+	}
+
+	/**
+	 * Registers the statistics in the platform MBean server, unless already registered.
+	 */
+	public static void register() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(OBJECT_NAME);
+			if (!server.isRegistered(name))
+				server.registerMBean(instance, name);
+		} catch (JMException e) {
+			log.warn("Could not register " + OBJECT_NAME, e);
+		}
+	}
+
+	void recordParse(long nanos, boolean cacheHit) {
+		if (cacheHit)
+			polygonCacheHits.incrementAndGet();
+		else {
+			polygonsParsed.incrementAndGet();
+			parseTime.record(nanos);
+		}
+	}
+
+	void record(WithinPolygonMetrics m) {
+		executions.incrementAndGet();
+		if (IsWithinPolygonPF.STRATEGY_NATIVE.equals(m.strategy))
+			nativeExecutions.incrementAndGet();
+		if (m.resultCacheHit)
+			resultCacheHits.incrementAndGet();
+		indexQueries.addAndGet(m.indexQueries);
+		candidates.addAndGet(m.candidates);
+		acceptedInterior.addAndGet(m.acceptedInterior);
+		results.addAndGet(m.results);
+		indexTime.record(m.indexNanos);
+		lookupTime.record(m.lookupNanos);
+		testTime.record(m.testNanos);
+		totalTime.record(m.totalNanos);
+	}
+
+	@Override
+	public long getExecutions() {
+		return executions.get();
+	}
+
+	@Override
+	public long getNativeExecutions() {
+		return nativeExecutions.get();
+	}
+
+	@Override
+	public long getCellsExecutions() {
+		return executions.get() - nativeExecutions.get();
+	}
+
+	@Override
+	public long getResultCacheHits() {
+		return resultCacheHits.get();
+	}
+
+	@Override
+	public long getPolygonsParsed() {
+		return polygonsParsed.get();
+	}
+
+	@Override
+	public long getPolygonCacheHits() {
+		return polygonCacheHits.get();
+	}
+
+	@Override
+	public long getPolygonCacheMisses() {
+		return polygonsParsed.get();
+	}
+
+	@Override
+	public long getIndexQueries() {
+		return indexQueries.get();
+	}
+
+	@Override
+	public long getCandidates() {
+		return candidates.get();
+	}
+
+	@Override
+	public long getAcceptedInterior() {
+		return acceptedInterior.get();
+	}
+
+	@Override
+	public long getResults() {
+		return results.get();
+	}
+
+	@Override
+	public double getCandidateResultRatio() {
+		long r = results.get();
+		return r == 0 ? 0 : (double) candidates.get() / r;
+	}
+
+	@Override
+	public double getParseTimeMeanMicros() {
+		return parseTime.getMeanMicros();
+	}
+
+	@Override
+	public long getParseTimeP99Micros() {
+		return parseTime.getPercentileMicros(99);
+	}
+
+	@Override
+	public double getIndexTimeMeanMicros() {
+		return indexTime.getMeanMicros();
+	}
+
+	@Override
+	public long getIndexTimeP99Micros() {
+		return indexTime.getPercentileMicros(99);
+	}
+
+	@Override
+	public double getLookupTimeMeanMicros() {
+		return lookupTime.getMeanMicros();
+	}
+
+	@Override
+	public long getLookupTimeP99Micros() {
+		return lookupTime.getPercentileMicros(99);
+	}
+
+	@Override
+	public double getTestTimeMeanMicros() {
+		return testTime.getMeanMicros();
+	}
+
+	@Override
+	public long getTestTimeP99Micros() {
+		return testTime.getPercentileMicros(99);
+	}
+
+	@Override
+	public double getTotalTimeMeanMicros() {
+		return totalTime.getMeanMicros();
+	}
+
+	@Override
+	public long getTotalTimeP50Micros() {
+		return totalTime.getPercentileMicros(50);
+	}
+
+	@Override
+	public long getTotalTimeP99Micros() {
+		return totalTime.getPercentileMicros(99);
+	}
+
+	@Override
+	public void reset() {
+		executions.set(0);
+		nativeExecutions.set(0);
+		resultCacheHits.set(0);
+		polygonsParsed.set(0);
+		polygonCacheHits.set(0);
+		indexQueries.set(0);
+		candidates.set(0);
+		acceptedInterior.set(0);
+		results.set(0);
+		parseTime.reset();
+		indexTime.reset();
+		lookupTime.reset();
+		testTime.reset();
+		totalTime.reset();
+	}
+}
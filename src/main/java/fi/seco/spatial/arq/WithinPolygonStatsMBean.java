@@ -0,0 +1,34 @@
+package fi.seco.spatial.arq;
+
+/**
+ * JMX view of the aggregated execution statistics of seco-spatial:withinPolygon.
+ * Times are in microseconds.
+ */
+public interface WithinPolygonStatsMBean {
+	long getExecutions();
+	long getNativeExecutions();
+	long getCellsExecutions();
+	long getResultCacheHits();
+	long getPolygonsParsed();
+	long getPolygonCacheHits();
+	long getPolygonCacheMisses();
+	long getIndexQueries();
+	long getCandidates();
+	long getAcceptedInterior();
+	long getResults();
+	double getCandidateResultRatio();
+
+	double getParseTimeMeanMicros();
+	long getParseTimeP99Micros();
+	double getIndexTimeMeanMicros();
+	long getIndexTimeP99Micros();
+	double getLookupTimeMeanMicros();
+	long getLookupTimeP99Micros();
+	double getTestTimeMeanMicros();
+	long getTestTimeP99Micros();
+	double getTotalTimeMeanMicros();
+	long getTotalTimeP50Micros();
+	long getTotalTimeP99Micros();
+
+	void reset();
+}
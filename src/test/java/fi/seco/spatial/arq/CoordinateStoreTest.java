@@ -0,0 +1,193 @@
+package fi.seco.spatial.arq;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.spatial.EntityDefinition;
+import org.apache.jena.query.spatial.SpatialIndexLucene;
+import org.apache.jena.query.spatial.SpatialQuery;
+import org.apache.jena.sparql.ARQConstants;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.sparql.core.DatasetGraphFactory;
+import org.apache.jena.sparql.engine.ExecutionContext;
+import org.apache.jena.sparql.engine.main.QC;
+import org.apache.jena.sparql.graph.GraphFactory;
+import org.apache.jena.sparql.util.Context;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CoordinateStoreTest {
+	private static final Node A = NodeFactory.createURI("http://example.org/a");
+	private static final Node B = NodeFactory.createURI("http://example.org/b");
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File dir;
+	private SpatialIndexLucene index;
+
+	@Before
+	public void createIndex() throws IOException {
+		dir = folder.newFolder("spatial");
+		index = new SpatialIndexLucene(FSDirectory.open(dir), new EntityDefinition("uri", "geo"));
+	}
+
+	@After
+	public void closeIndex() {
+		index.close();
+	}
+
+	// a write transaction of the spatial dataset: a new commit generation of the index
+	private void commit() {
+		index.startIndexing();
+		index.add(B.getURI(), SpatialQuery.ctx.makePoint(24.5, 60.5));
+		index.finishIndexing();
+	}
+
+	private static void setCoordinates(Graph g, Node s, double lat, double lon) {
+		g.add(Triple.create(s, EntityDefinition.geo_latitude.asNode(), NodeFactory.createLiteral(Double.toString(lat), XSDDatatype.XSDdouble)));
+		g.add(Triple.create(s, EntityDefinition.geo_longitude.asNode(), NodeFactory.createLiteral(Double.toString(lon), XSDDatatype.XSDdouble)));
+	}
+
+	private static Graph graph(double lat, double lon) {
+		Graph g = GraphFactory.createDefaultGraph();
+		setCoordinates(g, A, lat, lon);
+		return g;
+	}
+
+	private static double[] coordinates(CoordinateStore store, Node n) {
+		double[] latLong = new double[2];
+		assertTrue(store.getCoordinates(n, latLong));
+		return latLong;
+	}
+
+	@Test
+	public void saveAndLoad() throws IOException {
+		Graph g = graph(60.1, 24.9);
+		g.add(Triple.create(B, EntityDefinition.geo_latitude.asNode(), NodeFactory.createLiteral("61.0", XSDDatatype.XSDdouble)));
+		CoordinateStore store = CoordinateStore.build(g);
+		File file = folder.newFile("coordinates.dat");
+		store.save(file);
+		CoordinateStore loaded = CoordinateStore.load(file);
+		assertEquals(store.size(), loaded.size());
+		assertArrayEquals(new double[] { 60.1, 24.9 }, coordinates(loaded, A), 0);
+		// only one coordinate of b
+		assertFalse(loaded.getCoordinates(B, new double[2]));
+		assertTrue(loaded.getId(B) >= 0);
+		// no temporary files are left behind
+		assertEquals(1, folder.getRoot().listFiles(new FileFilter() {
+			@Override
+			public boolean accept(File f) {
+				return f.isFile();
+			}
+		}).length);
+	}
+
+	@Test
+	public void openLoadsTheSavedStore() throws IOException {
+		CoordinateStore store = CoordinateStore.open(dir, graph(60.1, 24.9));
+		assertEquals(SpatialIndexVersion.getGeneration(dir), store.getVersion());
+		assertTrue(new File(dir, CoordinateStore.DEFAULT_FILE_NAME).exists());
+		// the graph is not read again when the file is up to date
+		CoordinateStore opened = CoordinateStore.open(dir, graph(70, 30));
+		assertArrayEquals(new double[] { 60.1, 24.9 }, coordinates(opened, A), 0);
+	}
+
+	@Test
+	public void openRecoversFromTruncatedFile() throws IOException {
+		File file = new File(dir, CoordinateStore.DEFAULT_FILE_NAME);
+		// within the coordinates, the length of the URI and the URI (header 16 bytes, coordinates 16 bytes)
+		for (int length : new int[] { 20, 34, 40 }) {
+			CoordinateStore.open(dir, graph(60.1, 24.9));
+			RandomAccessFile raf = new RandomAccessFile(file, "rw");
+			try {
+				raf.setLength(length);
+			} finally {
+				raf.close();
+			}
+			CoordinateStore store = CoordinateStore.open(dir, graph(70, 30));
+			assertArrayEquals(new double[] { 70, 30 }, coordinates(store, A), 0);
+			// and saved again
+			assertArrayEquals(new double[] { 70, 30 }, coordinates(CoordinateStore.load(file), A), 0);
+			assertTrue(file.delete());
+		}
+	}
+
+	@Test
+	public void openRecoversFromGarbage() throws IOException {
+		File file = new File(dir, CoordinateStore.DEFAULT_FILE_NAME);
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		try {
+			raf.writeBytes("not a coordinate store");
+		} finally {
+			raf.close();
+		}
+		CoordinateStore store = CoordinateStore.open(dir, graph(70, 30));
+		assertArrayEquals(new double[] { 70, 30 }, coordinates(store, A), 0);
+	}
+
+	@Test
+	public void openRebuildsAfterCommit() throws IOException {
+		CoordinateStore.open(dir, graph(60.1, 24.9));
+		commit();
+		CoordinateStore store = CoordinateStore.open(dir, graph(70, 30));
+		assertEquals(SpatialIndexVersion.getGeneration(dir), store.getVersion());
+		assertArrayEquals(new double[] { 70, 30 }, coordinates(store, A), 0);
+	}
+
+	// the context of a new query execution over the dataset
+	private static ExecutionContext execution(Context cxt, DatasetGraph dsg) {
+		Context execCxt = cxt.copy();
+		execCxt.set(ARQConstants.sysCurrentQuery, new Query());
+		return new ExecutionContext(execCxt, dsg.getDefaultGraph(), dsg, QC.getFactory(execCxt));
+	}
+
+	@Test
+	public void registerRecordsTheGeneration() {
+		Context cxt = new Context();
+		cxt.set(SpatialQuery.spatialIndex, index);
+		CoordinateStore store = CoordinateStore.build(graph(60.1, 24.9)).register(cxt);
+		assertEquals(SpatialIndexVersion.getGeneration(dir), store.getVersion());
+		assertTrue(store.getVersion() != SpatialIndexVersion.UNKNOWN);
+	}
+
+	@Test
+	public void getRebuildsOncePerExecutionAfterCommit() {
+		DatasetGraph dsg = DatasetGraphFactory.createMem();
+		Graph g = dsg.getDefaultGraph();
+		setCoordinates(g, A, 60.1, 24.9);
+		Context cxt = new Context();
+		cxt.set(SpatialQuery.spatialIndex, index);
+		// not listening to the graph: changes are seen only after a commit of the spatial index
+		CoordinateStore store = CoordinateStore.build(g).register(cxt);
+		setCoordinates(g, B, 61, 25);
+		ExecutionContext first = execution(cxt, dsg);
+		assertTrue(CoordinateStore.get(first) == store);
+		assertFalse(store.getCoordinates(B, new double[2]));
+		commit();
+		// the version is read once per query execution
+		assertTrue(CoordinateStore.get(first) == store);
+		assertFalse(store.getCoordinates(B, new double[2]));
+		ExecutionContext second = execution(cxt, dsg);
+		assertTrue(CoordinateStore.get(second) == store);
+		assertEquals(SpatialIndexVersion.getGeneration(dir), store.getVersion());
+		assertArrayEquals(new double[] { 61, 25 }, coordinates(store, B), 0);
+	}
+}
@@ -0,0 +1,128 @@
+package fi.seco.spatial.arq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.MultiPolygon;
+import com.vividsolutions.jts.geom.Polygon;
+
+public class PolygonParserTest {
+	private static final GeometryFactory factory = new GeometryFactory();
+
+	private static Geometry parse(String str) {
+		return PolygonParser.parse(str, ", ", " ", false, factory);
+	}
+
+	private static void assertInvalid(String str) {
+		try {
+			parse(str);
+			fail("Expected an invalid polygon: " + str);
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid polygon"));
+		}
+	}
+
+	@Test
+	public void defaultFormatIsLongLat() {
+		Geometry g = parse("24 60, 25 60, 25 61, 24 61, 24 60");
+		assertTrue(g instanceof Polygon);
+		// x is the latitude and y the longitude
+		assertEquals(new Envelope(60, 61, 24, 25), g.getEnvelopeInternal());
+		assertEquals(new Coordinate(60, 24), g.getCoordinates()[0]);
+	}
+
+	@Test
+	public void unclosedRingIsClosed() {
+		Polygon p = (Polygon) parse("24 60, 25 60, 25 61");
+		assertEquals(4, p.getExteriorRing().getNumPoints());
+		assertTrue(p.getExteriorRing().isClosed());
+	}
+
+	@Test
+	public void customDelimiters() {
+		// e.g. SAPO polygons: '24,60 25,60 25,61'
+		Geometry g = PolygonParser.parse("24,60 25,60 25,61", " ", ",", false, factory);
+		assertEquals(new Envelope(60, 61, 24, 25), g.getEnvelopeInternal());
+	}
+
+	@Test
+	public void latLongOrder() {
+		Geometry g = PolygonParser.parse("60;24|60;25|61;25", "|", ";", true, factory);
+		assertEquals(new Envelope(60, 61, 24, 25), g.getEnvelopeInternal());
+	}
+
+	@Test
+	public void whitespaceAndTrailingDelimiter() {
+		Geometry g = parse("  24 60,   25 60, 25 61, ");
+		assertEquals(new Envelope(60, 61, 24, 25), g.getEnvelopeInternal());
+	}
+
+	@Test
+	public void wktPolygon() {
+		Geometry g = parse("POLYGON((24 60, 25 60, 25 61, 24 61, 24 60))");
+		assertTrue(g instanceof Polygon);
+		assertEquals(new Envelope(60, 61, 24, 25), g.getEnvelopeInternal());
+		assertTrue(g.equalsExact(parse("polygon ( ( 24 60 , 25 60 , 25 61 , 24 61 ) )")));
+	}
+
+	@Test
+	public void wktPolygonWithHole() {
+		Polygon p = (Polygon) parse("POLYGON((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 4 2, 4 4, 2 4, 2 2))");
+		assertEquals(1, p.getNumInteriorRing());
+		assertEquals(100 - 4, p.getArea(), 0);
+	}
+
+	@Test
+	public void wktMultiPolygon() {
+		Geometry g = parse("MULTIPOLYGON(((0 0, 1 0, 1 1, 0 0)), ((5 5, 6 5, 6 6, 5 5), (5.6 5.2, 5.8 5.2, 5.8 5.4, 5.6 5.2)))");
+		assertTrue(g instanceof MultiPolygon);
+		assertEquals(2, g.getNumGeometries());
+		assertEquals(1, ((Polygon) g.getGeometryN(1)).getNumInteriorRing());
+	}
+
+	@Test
+	public void wktMultiPolygonOfOnePolygon() {
+		assertTrue(parse("MULTIPOLYGON(((0 0, 1 0, 1 1, 0 0)))") instanceof Polygon);
+	}
+
+	@Test
+	public void wktCrsAndExtraOrdinates() {
+		Geometry g = parse("<http://www.opengis.net/def/crs/OGC/1.3/CRS84> POLYGON Z((24 60 1, 25 60 2, 25 61 3, 24 60 1))");
+		assertEquals(new Envelope(60, 61, 24, 25), g.getEnvelopeInternal());
+		assertTrue(g.equalsExact(parse("POLYGON ZM((24 60 1 7, 25 60 2 7, 25 61 3 7, 24 60 1 7))")));
+	}
+
+	@Test
+	public void numbersInDoublePrecision() {
+		String[] numbers = { "0", "-0.5", "+1.25", "24.123456789012345", "60.1", "0.000001",
+				"179.99999999999999999999", "1e-3", "2.5E2", "123456789012345678901", ".5", "7." };
+		for (String n : numbers) {
+			Polygon p = (Polygon) parse(n + " 0, 1 1, 2 0");
+			double expected = Double.parseDouble(n);
+			assertEquals(n, expected, p.getExteriorRing().getCoordinateN(0).y, 0);
+		}
+	}
+
+	@Test
+	public void invalidPolygons() {
+		assertInvalid("");
+		assertInvalid("24 60, 25 60");
+		assertInvalid("24 60, 25 60, 24 60");
+		assertInvalid("24 60, 25 x, 25 61");
+		assertInvalid("24 60; 25 60; 25 61");
+		assertInvalid("24,60, 25 60, 25 61");
+		assertInvalid("POLYGON((24 60, 25 60, 25 61)");
+		assertInvalid("POLYGON((24 60, 25 60, 25 61)) x");
+		assertInvalid("POLYGON(24 60, 25 60, 25 61)");
+		assertInvalid("MULTIPOLYGON((24 60, 25 60, 25 61))");
+		assertInvalid("<http://www.opengis.net/def/crs/OGC/1.3/CRS84 POLYGON((24 60, 25 60, 25 61))");
+		assertInvalid("24 60, 25 60, 25 61e");
+	}
+}
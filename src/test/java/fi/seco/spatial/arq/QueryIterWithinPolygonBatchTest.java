@@ -0,0 +1,101 @@
+package fi.seco.spatial.arq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Iterator;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.query.ARQ;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.sparql.core.DatasetGraphFactory;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.engine.ExecutionContext;
+import org.apache.jena.sparql.engine.QueryIterator;
+import org.apache.jena.sparql.engine.binding.Binding;
+import org.apache.jena.sparql.engine.binding.BindingFactory;
+import org.apache.jena.sparql.engine.iterator.QueryIterPlainWrapper;
+import org.apache.jena.sparql.engine.main.QC;
+import org.apache.jena.sparql.util.IterLib;
+import org.junit.Test;
+
+public class QueryIterWithinPolygonBatchTest {
+	private static final Var PLACE = Var.alloc("place");
+	private static final Var OTHER = Var.alloc("other");
+	private static final int BATCH_SIZE = 16;
+
+	// bindings of ?other only (?place unbound), counting how many have been read
+	private static class UnboundInput implements Iterator<Binding> {
+		private final int size;
+		int read = 0;
+
+		UnboundInput(int size) {
+			this.size = size;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return read < size;
+		}
+
+		@Override
+		public Binding next() {
+			return BindingFactory.binding(OTHER, NodeFactory.createURI("http://example.org/" + read++));
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private static QueryIterator batch(UnboundInput input, final ExecutionContext execCxt) {
+		CompiledPolygon polygon = CompiledPolygon.parse("24 60, 25 60, 25 61", ", ", " ", false);
+		WithinPolygonMetrics metrics = new WithinPolygonMetrics(polygon, 0, false, IsWithinPolygonPF.STRATEGY_CELLS);
+		return new QueryIterWithinPolygonBatch(new QueryIterPlainWrapper(input, execCxt), PLACE, polygon, BATCH_SIZE,
+				execCxt.getActiveGraph(), null, metrics, execCxt) {
+			@Override
+			protected QueryIterator execBinding(Binding binding) {
+				// one result per binding, standing for the search of the spatial index
+				return IterLib.result(BindingFactory.binding(binding, PLACE, NodeFactory.createURI("http://example.org/place")), execCxt);
+			}
+		};
+	}
+
+	private static ExecutionContext execCxt() {
+		DatasetGraph dsg = DatasetGraphFactory.createMem();
+		return new ExecutionContext(ARQ.getContext().copy(), dsg.getDefaultGraph(), dsg, QC.getFactory(ARQ.getContext()));
+	}
+
+	@Test
+	public void unboundSubjectsAreReadLazily() {
+		UnboundInput input = new UnboundInput(100000);
+		QueryIterator iter = batch(input, execCxt());
+		try {
+			assertTrue(iter.hasNext());
+			Binding b = iter.nextBinding();
+			Node place = b.get(PLACE);
+			assertEquals("http://example.org/place", place.getURI());
+			assertTrue("read " + input.read + " bindings before the first result", input.read <= BATCH_SIZE);
+		} finally {
+			iter.close();
+		}
+	}
+
+	@Test
+	public void allUnboundSubjectsAreEvaluated() {
+		UnboundInput input = new UnboundInput(1000);
+		QueryIterator iter = batch(input, execCxt());
+		int results = 0;
+		try {
+			while (iter.hasNext()) {
+				iter.nextBinding();
+				results++;
+			}
+		} finally {
+			iter.close();
+		}
+		assertEquals(1000, results);
+	}
+}
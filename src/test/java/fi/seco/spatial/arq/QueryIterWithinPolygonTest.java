@@ -0,0 +1,104 @@
+package fi.seco.spatial.arq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.ARQ;
+import org.apache.jena.query.spatial.EntityDefinition;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.sparql.core.DatasetGraphFactory;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.engine.ExecutionContext;
+import org.apache.jena.sparql.engine.QueryIterator;
+import org.apache.jena.sparql.engine.binding.Binding;
+import org.apache.jena.sparql.engine.binding.BindingFactory;
+import org.apache.jena.sparql.engine.iterator.QueryIterPlainWrapper;
+import org.apache.jena.sparql.engine.main.QC;
+import org.apache.jena.sparql.util.Context;
+import org.junit.Test;
+
+public class QueryIterWithinPolygonTest {
+	private static final Var PLACE = Var.alloc("place");
+	// below the 10000 hits of one index query, but above the default parallel threshold
+	private static final int HITS = 5000;
+
+	private final CompiledPolygon polygon = CompiledPolygon.parse("24 60, 25 60, 25 61, 24 61", ", ", " ", false);
+	private final List<Binding> hits = new ArrayList<Binding>();
+	private final List<Node> inside = new ArrayList<Node>();
+	private final ExecutionContext execCxt;
+
+	public QueryIterWithinPolygonTest() {
+		DatasetGraph dsg = DatasetGraphFactory.createMem();
+		Graph g = dsg.getDefaultGraph();
+		// every other hit of the (bounding box) index query is outside the polygon
+		for (int i = 0; i < HITS; i++) {
+			Node place = NodeFactory.createURI("http://example.org/place/" + i);
+			double lat = i % 2 == 0 ? 60 + (i % 97 + 0.5) / 100 : 61.5;
+			double lon = 24 + (i % 89 + 0.5) / 100;
+			g.add(Triple.create(place, EntityDefinition.geo_latitude.asNode(), NodeFactory.createLiteral(Double.toString(lat), XSDDatatype.XSDdouble)));
+			g.add(Triple.create(place, EntityDefinition.geo_longitude.asNode(), NodeFactory.createLiteral(Double.toString(lon), XSDDatatype.XSDdouble)));
+			hits.add(BindingFactory.binding(PLACE, place));
+			if (i % 2 == 0)
+				inside.add(place);
+		}
+		Context cxt = ARQ.getContext().copy();
+		cxt.set(SpatialFunctions.symParallel, true);
+		execCxt = new ExecutionContext(cxt, g, dsg, QC.getFactory(cxt));
+	}
+
+	private List<Node> evaluate(WithinPolygonMetrics metrics) {
+		QueryIterator iter = new QueryIterWithinPolygon(PLACE, polygon, polygon.getCovering(0), execCxt.getActiveGraph(),
+				null, metrics, execCxt) {
+			@Override
+			protected QueryIterator queryCell(PolygonCovering.Cell cell) {
+				// the hits of the index in their index order
+				return new QueryIterPlainWrapper(hits.iterator(), execCxt);
+			}
+		};
+		List<Node> results = new ArrayList<Node>();
+		try {
+			while (iter.hasNext())
+				results.add(iter.nextBinding().get(PLACE));
+		} finally {
+			iter.close();
+		}
+		return results;
+	}
+
+	private WithinPolygonMetrics metrics() {
+		return new WithinPolygonMetrics(polygon, 0, false, IsWithinPolygonPF.STRATEGY_CELLS);
+	}
+
+	@Test
+	public void parallelWithDefaultSettings() {
+		WithinPolygonMetrics metrics = metrics();
+		List<Node> results = evaluate(metrics);
+		assertEquals(1, metrics.getParallelBatches());
+		assertEquals(new HashSet<Node>(inside), new HashSet<Node>(results));
+	}
+
+	@Test
+	public void orderedKeepsIndexOrder() {
+		assertTrue(ParallelFilter.get(execCxt.getContext()).isOrdered());
+		WithinPolygonMetrics metrics = metrics();
+		assertEquals(inside, evaluate(metrics));
+		assertTrue(metrics.getParallelBatches() > 0);
+	}
+
+	@Test
+	public void unorderedReturnsAllResults() {
+		execCxt.getContext().set(SpatialFunctions.symParallelOrdered, false);
+		List<Node> results = evaluate(metrics());
+		assertEquals(inside.size(), results.size());
+		assertEquals(new HashSet<Node>(inside), new HashSet<Node>(results));
+	}
+}
@@ -0,0 +1,139 @@
+package fi.seco.spatial.arq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.query.ARQ;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.sparql.core.DatasetGraphFactory;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.engine.ExecutionContext;
+import org.apache.jena.sparql.engine.QueryIterator;
+import org.apache.jena.sparql.engine.binding.Binding;
+import org.apache.jena.sparql.engine.binding.BindingFactory;
+import org.apache.jena.sparql.engine.binding.BindingRoot;
+import org.apache.jena.sparql.engine.iterator.QueryIterPlainWrapper;
+import org.apache.jena.sparql.engine.main.QC;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+import org.junit.Test;
+
+public class ResultCacheTest {
+	private static final Var PLACE = Var.alloc("place");
+
+	private final CompiledPolygon polygon = CompiledPolygon.parse("24 60, 25 60, 25 61", ", ", " ", false);
+	private final Directory dir = new RAMDirectory();
+	private final DatasetGraph dsg = DatasetGraphFactory.createMem();
+	private final ExecutionContext execCxt = new ExecutionContext(ARQ.getContext().copy(), dsg.getDefaultGraph(), dsg,
+			QC.getFactory(ARQ.getContext()));
+
+	private ResultCache.Key key(String polygon, long generation) {
+		return new ResultCache.Key(polygon, IsWithinPolygonPF.STRATEGY_CELLS, dir, dsg, null, generation);
+	}
+
+	// stores the results by consuming them through the cache
+	private void fill(ResultCache cache, ResultCache.Key key, int results) {
+		List<Binding> bindings = new ArrayList<Binding>();
+		for (int i = 0; i < results; i++)
+			bindings.add(BindingFactory.binding(PLACE, NodeFactory.createURI("http://example.org/place/" + i)));
+		QueryIterator iter = cache.fill(key, new QueryIterPlainWrapper(bindings.iterator(), execCxt), PLACE, null, execCxt);
+		while (iter.hasNext())
+			iter.nextBinding();
+		iter.close();
+	}
+
+	private List<Node> lookup(ResultCache cache, ResultCache.Key key) {
+		WithinPolygonMetrics metrics = new WithinPolygonMetrics(polygon, 0, false, IsWithinPolygonPF.STRATEGY_CELLS);
+		QueryIterator iter = cache.lookup(key, BindingRoot.create(), PLACE, null, metrics, execCxt);
+		if (iter == null)
+			return null;
+		List<Node> results = new ArrayList<Node>();
+		while (iter.hasNext())
+			results.add(iter.nextBinding().get(PLACE));
+		iter.close();
+		return results;
+	}
+
+	@Test
+	public void cachedResults() {
+		ResultCache cache = new ResultCache(1000, 0);
+		fill(cache, key("a", 1), 3);
+		List<Node> results = lookup(cache, key("a", 1));
+		assertNotNull(results);
+		assertEquals(3, results.size());
+		assertEquals(1 + 1 + 3, cache.getCost());
+		assertNull(lookup(cache, key("b", 1)));
+	}
+
+	@Test
+	public void graphIsPartOfTheKey() {
+		ResultCache cache = new ResultCache(1000, 0);
+		fill(cache, key("a", 1), 3);
+		ResultCache.Key named = new ResultCache.Key("a", IsWithinPolygonPF.STRATEGY_CELLS, dir, dsg,
+				NodeFactory.createURI("http://example.org/graph"), 1);
+		assertNull(lookup(cache, named));
+		ResultCache.Key otherGraph = new ResultCache.Key("a", IsWithinPolygonPF.STRATEGY_CELLS, dir,
+				DatasetGraphFactory.createMem(), null, 1);
+		assertNull(lookup(cache, otherGraph));
+	}
+
+	@Test
+	public void newGenerationInvalidates() {
+		ResultCache cache = new ResultCache(1000, 0);
+		fill(cache, key("a", 1), 3);
+		assertNull(lookup(cache, key("a", 2)));
+		assertEquals(1, cache.getInvalidations());
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getCost());
+		// results computed at the new generation are cached again
+		fill(cache, key("a", 2), 2);
+		assertEquals(2, lookup(cache, key("a", 2)).size());
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsed() {
+		// each entry costs 1 + 1 (polygon text) + 3 (subjects)
+		ResultCache cache = new ResultCache(15, 0);
+		fill(cache, key("a", 1), 3);
+		fill(cache, key("b", 1), 3);
+		fill(cache, key("c", 1), 3);
+		assertNotNull(lookup(cache, key("a", 1)));
+		fill(cache, key("d", 1), 3);
+		assertEquals(3, cache.size());
+		assertEquals(1, cache.getEvictions());
+		assertNull(lookup(cache, key("b", 1)));
+		assertNotNull(lookup(cache, key("a", 1)));
+		assertNotNull(lookup(cache, key("d", 1)));
+		assertTrue(cache.getCost() <= 15);
+	}
+
+	@Test
+	public void emptyResultsAreBounded() {
+		ResultCache cache = new ResultCache(100, 0);
+		for (int i = 0; i < 1000; i++)
+			fill(cache, key("polygon " + i, 1), 0);
+		assertTrue(cache.getCost() <= 100);
+		assertTrue(cache.size() <= 100 / (1 + "polygon 999".length()) + 1);
+		assertTrue(cache.getEvictions() > 900);
+	}
+
+	@Test
+	public void polygonTextIsCharged() {
+		StringBuilder large = new StringBuilder();
+		for (int i = 0; i < 200; i++)
+			large.append("24.0 60.0, ");
+		ResultCache cache = new ResultCache(1000, 0);
+		fill(cache, key(large.toString(), 1), 0);
+		// the key alone costs more than the whole cache
+		assertEquals(0, cache.size());
+		fill(cache, key("a", 1), 0);
+		assertEquals(2, cache.getCost());
+	}
+}
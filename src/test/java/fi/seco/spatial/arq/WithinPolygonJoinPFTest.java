@@ -0,0 +1,157 @@
+package fi.seco.spatial.arq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QueryExecutionFactory;
+import org.apache.jena.query.QuerySolution;
+import org.apache.jena.query.ReadWrite;
+import org.apache.jena.query.ResultSet;
+import org.apache.jena.query.spatial.EntityDefinition;
+import org.apache.jena.query.spatial.SpatialDatasetFactory;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.sparql.core.Quad;
+import org.apache.lucene.store.RAMDirectory;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WithinPolygonJoinPFTest {
+	private static final String PREFIX = "PREFIX seco-spatial: <" + SpatialFunctions.NS + ">\n";
+	private static final Node GRAPH = NodeFactory.createURI("http://example.org/graph");
+	// rectangles (long lat), the points are never on their edges
+	private static final String[] POLYGONS = { "24 60, 25 60, 25 61, 24 61", "24.5 60.5, 26 60.5, 26 62, 24.5 62" };
+	private static final double[][] BOXES = { { 24, 60, 25, 61 }, { 24.5, 60.5, 26, 62 } };
+	private static final int GRID = 30;
+
+	private Dataset ds;
+
+	@Before
+	public void createDataset() {
+		SpatialFunctions.init();
+		ds = SpatialDatasetFactory.createLucene(DatasetFactory.createMem(), new RAMDirectory(),
+				new EntityDefinition("uri", "geo"));
+		ds.begin(ReadWrite.WRITE);
+		try {
+			DatasetGraph dsg = ds.asDatasetGraph();
+			for (int i = 0; i < GRID * GRID; i++) {
+				Node place = place(i);
+				add(dsg, Quad.defaultGraphIRI, place, lat(i), lon(i));
+				// every third point is in the named graph as well
+				if (i % 3 == 0)
+					add(dsg, GRAPH, place, lat(i), lon(i));
+			}
+			ds.commit();
+		} finally {
+			ds.end();
+		}
+	}
+
+	private static Node place(int i) {
+		return NodeFactory.createURI("http://example.org/place/" + i);
+	}
+
+	private static double lat(int i) {
+		return 59.55 + (i / GRID) * 0.1;
+	}
+
+	private static double lon(int i) {
+		return 23.55 + (i % GRID) * 0.1;
+	}
+
+	private static void add(DatasetGraph dsg, Node g, Node s, double lat, double lon) {
+		dsg.add(g, s, EntityDefinition.geo_latitude.asNode(),
+				NodeFactory.createLiteral(String.format(Locale.ROOT, "%.2f", lat), XSDDatatype.XSDdouble));
+		dsg.add(g, s, EntityDefinition.geo_longitude.asNode(),
+				NodeFactory.createLiteral(String.format(Locale.ROOT, "%.2f", lon), XSDDatatype.XSDdouble));
+	}
+
+	// the (place, polygon) pairs of the points of the graph inside the polygons
+	private static Set<String> expected(boolean named) {
+		Set<String> pairs = new HashSet<String>();
+		for (int i = 0; i < GRID * GRID; i++) {
+			if (named && i % 3 != 0)
+				continue;
+			for (int p = 0; p < POLYGONS.length; p++)
+				if (lon(i) > BOXES[p][0] && lat(i) > BOXES[p][1] && lon(i) < BOXES[p][2] && lat(i) < BOXES[p][3])
+					pairs.add(place(i).getURI() + " " + POLYGONS[p]);
+		}
+		return pairs;
+	}
+
+	private Set<String> select(String pattern, boolean named) {
+		String where = named ? "GRAPH <" + GRAPH.getURI() + "> { " + pattern + " }" : pattern;
+		Set<String> pairs = new HashSet<String>();
+		ds.begin(ReadWrite.READ);
+		try {
+			QueryExecution qe = QueryExecutionFactory.create(PREFIX + "SELECT ?place ?polygon WHERE { " + where + " }", ds);
+			try {
+				ResultSet rs = qe.execSelect();
+				while (rs.hasNext()) {
+					QuerySolution qs = rs.next();
+					pairs.add(qs.getResource("place").getURI() + " " + qs.getLiteral("polygon").getLexicalForm());
+				}
+			} finally {
+				qe.close();
+			}
+		} finally {
+			ds.end();
+		}
+		return pairs;
+	}
+
+	private Set<String> join(boolean named) {
+		StringBuilder values = new StringBuilder("VALUES ?polygon {");
+		for (String polygon : POLYGONS)
+			values.append(" \"").append(polygon).append('"');
+		values.append(" } ");
+		return select(values + "?place seco-spatial:withinPolygonJoin ?polygon", named);
+	}
+
+	// the results of seco-spatial:withinPolygon with each polygon in turn
+	private Set<String> single(boolean named) {
+		Set<String> pairs = new HashSet<String>();
+		for (String polygon : POLYGONS)
+			pairs.addAll(select("BIND(\"" + polygon + "\" AS ?polygon) ?place seco-spatial:withinPolygon \"" + polygon + "\"", named));
+		return pairs;
+	}
+
+	private void assertJoin(boolean named) {
+		Set<String> expected = expected(named);
+		assertTrue(!expected.isEmpty());
+		assertEquals(expected, single(named));
+		assertEquals(expected, join(named));
+	}
+
+	@Test
+	public void joinWithIndex() {
+		assertJoin(false);
+	}
+
+	@Test
+	public void joinWithIndexInGraph() {
+		assertJoin(true);
+	}
+
+	@Test
+	public void joinWithStore() {
+		CoordinateStore.build(ds.asDatasetGraph().getDefaultGraph()).register(ds.getContext());
+		assertJoin(false);
+	}
+
+	@Test
+	public void joinWithStoreInGraph() {
+		// the store of the default graph is not used for the named graph
+		CoordinateStore.build(ds.asDatasetGraph().getDefaultGraph()).register(ds.getContext());
+		assertJoin(true);
+	}
+}